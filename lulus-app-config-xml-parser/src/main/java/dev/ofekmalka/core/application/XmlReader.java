@@ -170,7 +170,8 @@ public final class XmlReader {
 						.orGet(() -> XmlReader.createBase(Result.success(new Builder(fileName, //
 								rootElementName, //
 								childElementName, //
-								grandChildrenTags, //
+								// readers of the same shape share one list of tags
+								List.extendedFactoryOperations().createInternedCopyOf(grandChildrenTags), //
 								numberOfObjects))));
 
 			};
@@ -0,0 +1,92 @@
+package dev.ofekmalka.assertion;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import dev.ofekmalka.core.assertion.If;
+import dev.ofekmalka.core.assertion.PreconditionedProcess;
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List;
+import dev.ofekmalka.core.function.Function;
+
+/**
+ * Measures the per-call overhead of the precondition pipeline every public
+ * operation runs, on a one-element list so that the operation itself costs next
+ * to nothing.
+ * <p>
+ * Run with the GC profiler ({@code -prof gc}) and read
+ * {@code gc.alloc.rate.norm} for the bytes allocated per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class PreconditionBenchmark {
+
+	private Result<String> source;
+	private Object argument;
+	private List<Integer> list;
+	private Function<Integer, Integer> mapper;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		source = Result.success("value");
+		argument = "argument";
+		list = List.list(1);
+		mapper = i -> i + 1;
+	}
+
+	@Benchmark
+	public Result<Integer> checkCondition() {
+		return PreconditionedProcess.from(source)//
+				.checkCondition(() -> If.givenObject(argument).isNonNull("argument"))//
+				.processOperation(String::length)//
+				.andMakeStackTraceUnderTheName("length")//
+				.getResultProccess();
+	}
+
+	@Benchmark
+	public Result<Integer> requireNonNull() {
+		return PreconditionedProcess.from(source)//
+				.requireNonNull(argument, "argument")//
+				.processOperation(String::length)//
+				.andMakeStackTraceUnderTheName("length")//
+				.getResultProccess();
+	}
+
+	@Benchmark
+	public Result<Boolean> listContains() {
+		return list.contains(1);
+	}
+
+	@Benchmark
+	public List<Integer> listMap() {
+		return list.map(mapper);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final var opt = new OptionsBuilder()//
+				.include(PreconditionBenchmark.class.getName())//
+				.addProfiler(GCProfiler.class)//
+				.build();
+
+		new Runner(opt).run();
+	}
+}
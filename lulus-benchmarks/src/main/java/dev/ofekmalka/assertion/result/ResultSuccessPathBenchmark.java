@@ -0,0 +1,80 @@
+package dev.ofekmalka.assertion.result;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.function.Function;
+
+/**
+ * Measures the success path of {@link Result#map} and {@link Result#flatMap}.
+ * <p>
+ * Run with the GC profiler ({@code -prof gc}) and read
+ * {@code gc.alloc.rate.norm}: a single {@code map} on a {@code Success} should
+ * allocate only the new {@code Success} instance, since diagnostic messages are
+ * built lazily on the failure branches only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ResultSuccessPathBenchmark {
+
+	private static final String MAPPED_VALUE = "mapped";
+
+	private Result<Integer> success;
+	private Function<Integer, String> mapper;
+	private Function<Integer, Result<String>> flatMapper;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		success = Result.success(42);
+		mapper = i -> MAPPED_VALUE;
+		final var mappedResult = Result.success(MAPPED_VALUE);
+		flatMapper = i -> mappedResult;
+	}
+
+	@Benchmark
+	public Result<String> mapOnSuccess() {
+		return success.map(mapper);
+	}
+
+	@Benchmark
+	public Result<String> flatMapOnSuccess() {
+		return success.flatMap(flatMapper);
+	}
+
+	@Benchmark
+	public Result<String> chainOfMapsOnSuccess() {
+		return success//
+				.map(i -> i + 1)//
+				.map(i -> i * 2)//
+				.map(i -> MAPPED_VALUE);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final var opt = new OptionsBuilder()//
+				.include(ResultSuccessPathBenchmark.class.getName())//
+				.addProfiler(GCProfiler.class)//
+				.build();
+
+		new Runner(opt).run();
+	}
+}
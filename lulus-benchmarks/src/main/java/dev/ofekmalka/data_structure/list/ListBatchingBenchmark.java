@@ -0,0 +1,74 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.ofekmalka.core.data_structure.list.List;
+import dev.ofekmalka.tools.helper.ValidatedSize;
+
+/**
+ * Compares the eager batching operations with the windowing they replace:
+ * converting to a stream, windowing it and collecting the windows back into a
+ * list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ListBatchingBenchmark {
+
+	private static final int WINDOW_SIZE = 16;
+
+	@Param({ "1000", "100000" })
+	public int numberOfElements;
+
+	private List<Integer> list;
+	private ValidatedSize windowSize;
+	private ValidatedSize windowCount;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+		windowSize = ValidatedSize.of(WINDOW_SIZE).successValue();
+		windowCount = ValidatedSize.of(numberOfElements).successValue();
+	}
+
+	@Benchmark
+	public List<List<Integer>> grouped() {
+		return list.grouped(WINDOW_SIZE);
+	}
+
+	@Benchmark
+	public List<List<Integer>> groupedThroughStream() {
+		return list.convert().toStream().windowFixedAtMost(windowSize).toBoundedList(windowCount);
+	}
+
+	@Benchmark
+	public List<List<Integer>> sliding() {
+		return list.sliding(WINDOW_SIZE, 1);
+	}
+
+	@Benchmark
+	public List<List<Integer>> slidingThroughStream() {
+		return list.convert().toStream().windowSliding(windowSize).toBoundedList(windowCount);
+	}
+
+	@Benchmark
+	public List<List<Integer>> splitEvery() {
+		return list.splitEvery(i -> i % WINDOW_SIZE == 0);
+	}
+}
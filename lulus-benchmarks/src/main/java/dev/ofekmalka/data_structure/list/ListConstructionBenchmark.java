@@ -0,0 +1,64 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.ofekmalka.core.data_structure.list.List;
+import dev.ofekmalka.tools.tuple.Tuple2;
+
+/**
+ * Measures building large lists, where every new cell used to hash its element
+ * and the rest of the list up front. {@code mapToTuples} produces elements whose
+ * {@code hashCode} is not trivial. {@code hashCodeOnce} shows the one-off cost
+ * that is now paid only by the lists that are actually hashed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ListConstructionBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int numberOfElements;
+
+	private List<Integer> initialList;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		initialList = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+	}
+
+	@Benchmark
+	public List<Integer> generateRange() {
+		return List.extendedFactoryOperations().generateRange(0, numberOfElements);
+	}
+
+	@Benchmark
+	public List<Integer> map() {
+		return initialList.map(i -> i + 1);
+	}
+
+	@Benchmark
+	public List<Tuple2<Integer, Integer>> mapToTuples() {
+		return initialList.map(i -> Tuple2.of(i, i).getResult().successValue());
+	}
+
+	@Benchmark
+	public int hashCodeOnce() {
+		return List.extendedFactoryOperations().generateRange(0, numberOfElements).hashCode();
+	}
+}
@@ -0,0 +1,94 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.ofekmalka.core.data_structure.list.List;
+import dev.ofekmalka.core.data_structure.list.SizePolicy;
+import dev.ofekmalka.core.function.Supplier;
+
+/**
+ * Compares the bulk factories, which build one list cell per element, with the
+ * paths they replaced: a range or a validated list mapped into the result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ListFactoryBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int numberOfElements;
+
+	private int[] ints;
+	private java.util.List<Integer> collection;
+	private final Supplier<String> supplier = () -> "element";
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ints = new int[numberOfElements];
+		collection = new ArrayList<>(numberOfElements);
+		for (var i = 0; i < numberOfElements; i++) {
+			ints[i] = i;
+			collection.add(i);
+		}
+	}
+
+	@Benchmark
+	public List<Integer> createIntList() {
+		return List.extendedFactoryOperations().createIntList(ints);
+	}
+
+	@Benchmark
+	public List<Integer> createIntListThroughRange() {
+		return List.extendedFactoryOperations().generateRange(0, numberOfElements).map(i -> ints[i]);
+	}
+
+	@Benchmark
+	public List<Integer> createFromCollection() {
+		return List.extendedFactoryOperations().createFromCollection(collection);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Benchmark
+	public List<Integer> createFromCollectionThroughArray() {
+		return List.list(collection.toArray()).map(o -> (Integer) o);
+	}
+
+	@Benchmark
+	public List<Integer> createFromStream() {
+		return List.extendedFactoryOperations().createFromStreamAndRemoveNullsValues(collection.stream());
+	}
+
+	@Benchmark
+	public List<Integer> createFromStreamThroughCollection() {
+		return List.extendedFactoryOperations().createFromCollection(collection.stream()//
+				.filter(Objects::nonNull).limit(SizePolicy.global().maxElements()).toList());
+	}
+
+	@Benchmark
+	public List<String> createFilledList() {
+		return List.extendedFactoryOperations().createFilledList(numberOfElements, supplier);
+	}
+
+	@Benchmark
+	public List<String> createFilledListThroughRange() {
+		return List.extendedFactoryOperations().generateRange(0, numberOfElements).map(ignore -> supplier.get());
+	}
+}
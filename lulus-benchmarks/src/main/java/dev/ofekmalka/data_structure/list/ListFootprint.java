@@ -0,0 +1,71 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.ArrayList;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import dev.ofekmalka.core.data_structure.list.List;
+
+/**
+ * Prints the retained heap of the list representations with JOL, per element
+ * and not counting the elements themselves, then that of many equal lists,
+ * copied or interned. It fails with an {@link AssertionError}, and a non-zero
+ * exit status, when a compact list costs more than
+ * {@value #COMPACT_BYTES_PER_ELEMENT} bytes per element:
+ *
+ * <pre>
+ * java -cp lulus-benchmarks/target/benchmarks-uber.jar dev.ofekmalka.data_structure.list.ListFootprint
+ * </pre>
+ */
+public final class ListFootprint {
+
+	// 8.5 measured with compressed oops, the rest is headroom for other layouts
+	private static final double COMPACT_BYTES_PER_ELEMENT = 10.0;
+
+	private ListFootprint() {
+	}
+
+	public static void main(final String[] args) {
+		final var numberOfElements = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		final var factory = List.extendedFactoryOperations();
+		final var linked = factory.generateRange(0, numberOfElements);
+
+		final var array = linked.convert().toJavaList(ArrayList::new).successValue().toArray();
+		final var elements = GraphLayout.parseInstance(array);
+		print("linked", linked, elements, numberOfElements);
+		final var compact = print("compact", factory.createCompactCopyOf(linked), elements, numberOfElements);
+		print("indexed", factory.createIndexedCopyOf(linked), elements, numberOfElements);
+		check(compact <= COMPACT_BYTES_PER_ELEMENT * numberOfElements,
+				"compact lists cost more than " + COMPACT_BYTES_PER_ELEMENT + " bytes per element");
+
+		// the same tags read again and again, as a configuration reader does
+		final var tags = List.list("groupId", "artifactId", "version", "scope", "type", "classifier");
+		final var tagArray = tags.convert().toJavaList(ArrayList::new).successValue().toArray();
+		final var copies = new Object[1_000];
+		final var interned = new Object[copies.length];
+		for (var i = 0; i < copies.length; i++) {
+			copies[i] = tags.map(tag -> tag);
+			interned[i] = factory.createInternedCopyOf(tags.map(tag -> tag));
+		}
+		final var tagElements = GraphLayout.parseInstance(tagArray);
+		printShared("copies", copies, tagElements);
+		printShared("interned", interned, tagElements);
+	}
+
+	private static void check(final boolean condition, final String message) {
+		if (!condition)
+			throw new AssertionError("footprint regression: " + message);
+	}
+
+	private static void printShared(final String name, final Object[] lists, final GraphLayout elements) {
+		final var bytes = GraphLayout.parseInstance((Object) lists).subtract(elements).totalSize();
+		System.out.printf("%-8s %,12d bytes for %,d equal lists%n", name, bytes, lists.length);
+	}
+
+	private static long print(final String name, final List<Integer> list, final GraphLayout elements,
+			final int numberOfElements) {
+		final var bytes = GraphLayout.parseInstance(list).subtract(elements).totalSize();
+		System.out.printf("%-8s %,12d bytes %6.1f bytes per element%n", name, bytes, (double) bytes / numberOfElements);
+		return bytes;
+	}
+}
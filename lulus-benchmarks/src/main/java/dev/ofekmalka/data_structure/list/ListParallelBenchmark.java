@@ -0,0 +1,69 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List;
+
+/**
+ * Compares sequential and {@code parallel()} bulk operations with a lambda that
+ * costs a few hundred nanoseconds per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ListParallelBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int numberOfElements;
+
+	private List<Integer> initialList;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		initialList = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+	}
+
+	private static Integer heavy(final Integer value) {
+		var hash = value.longValue();
+		for (var i = 0; i < 200; i++)
+			hash = hash * 6364136223846793005L + 1442695040888963407L;
+		return (int) (hash >>> 33);
+	}
+
+	@Benchmark
+	public List<Integer> sequentialMap() {
+		return initialList.map(ListParallelBenchmark::heavy);
+	}
+
+	@Benchmark
+	public List<Integer> parallelMap() {
+		return initialList.parallel().map(ListParallelBenchmark::heavy);
+	}
+
+	@Benchmark
+	public Result<Boolean> sequentialAllMatch() {
+		return initialList.allMatch(i -> heavy(i) != 0);
+	}
+
+	@Benchmark
+	public Result<Boolean> parallelAllMatch() {
+		return initialList.parallel().allMatch(i -> heavy(i) != 0);
+	}
+}
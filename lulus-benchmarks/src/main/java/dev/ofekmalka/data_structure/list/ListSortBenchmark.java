@@ -0,0 +1,89 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List;
+import dev.ofekmalka.core.data_structure.list.SortedList;
+
+/**
+ * Compares sorting, top-K and lookups on a shuffled list with the round trip
+ * they replace: copying into a {@link java.util.ArrayList}, sorting it and
+ * building a list back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ListSortBenchmark {
+
+	private static final int K = 10;
+
+	@Param({ "1000", "100000" })
+	public int numberOfElements;
+
+	private List<Integer> shuffled;
+	private SortedList<Integer> sorted;
+	private int target;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final var values = new ArrayList<Integer>(numberOfElements);
+		final var random = new SplittableRandom(42);
+		for (var i = 0; i < numberOfElements; i++)
+			values.add(random.nextInt(numberOfElements));
+		shuffled = List.extendedFactoryOperations().createFromCollection(values);
+		sorted = SortedList.fromList(shuffled, Comparator.naturalOrder());
+		target = values.get(numberOfElements / 2);
+	}
+
+	@Benchmark
+	public List<Integer> sortBy() {
+		return shuffled.sortBy(Comparator.naturalOrder());
+	}
+
+	@Benchmark
+	public List<Integer> sortThroughJavaList() {
+		final var values = shuffled.convert().toJavaList(ArrayList<Integer>::new).successValue();
+		values.sort(Comparator.naturalOrder());
+		return List.extendedFactoryOperations().createFromCollection(values);
+	}
+
+	@Benchmark
+	public List<Integer> topK() {
+		return shuffled.topK(K, Comparator.naturalOrder());
+	}
+
+	@Benchmark
+	public List<Integer> topKThroughSort() {
+		return shuffled.sortBy(Comparator.naturalOrder()).takeAtMost(K);
+	}
+
+	@Benchmark
+	public Result<Integer> binarySearch() {
+		return sorted.binarySearch(target);
+	}
+
+	@Benchmark
+	public Result<Integer> indexOf() {
+		return shuffled.indexOf(target);
+	}
+}
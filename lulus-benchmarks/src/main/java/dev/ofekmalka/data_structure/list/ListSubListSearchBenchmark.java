@@ -0,0 +1,66 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List;
+
+/**
+ * Searches a list of zeros for a pattern of zeros that ends in a one, the worst
+ * case for restarting the comparison at every position: each start used to
+ * match {@code patternSize - 1} elements before failing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ListSubListSearchBenchmark {
+
+	@Param({ "10000", "300000" })
+	public int numberOfElements;
+
+	@Param({ "10", "1000" })
+	public int patternSize;
+
+	private List<Integer> initialList;
+	private List<Integer> missingPattern;
+	private List<Integer> repeatedPattern;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		initialList = List.extendedFactoryOperations().generateRange(0, numberOfElements).map(i -> 0);
+		missingPattern = List.extendedFactoryOperations().generateRange(0, patternSize)
+				.map(i -> i == patternSize - 1 ? 1 : 0);
+		repeatedPattern = List.extendedFactoryOperations().generateRange(0, patternSize).map(i -> 0);
+	}
+
+	@Benchmark
+	public Result<Boolean> hasSubListMissing() {
+		return initialList.hasSubList(missingPattern);
+	}
+
+	@Benchmark
+	public Result<Integer> indexOfSubListMissing() {
+		return initialList.indexOfSubList(missingPattern);
+	}
+
+	@Benchmark
+	public List<Integer> allIndicesOfSubListOverlapping() {
+		return initialList.allIndicesOfSubList(repeatedPattern);
+	}
+}
@@ -0,0 +1,74 @@
+package dev.ofekmalka.data_structure.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List;
+
+/**
+ * Compares full traversals of a list of one cell per element with the same
+ * elements in unrolled cells of 16, see {@link ListFootprint} for their sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms2G", "-Xmx2G" })
+public class ListTraversalBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int numberOfElements;
+
+	private List<Integer> linked;
+	private List<Integer> compact;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		linked = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+		compact = List.extendedFactoryOperations().createCompactCopyOf(linked);
+	}
+
+	@Benchmark
+	public Result<Long> linkedFoldLeft() {
+		return linked.foldLeft(0L, sum -> i -> sum + i);
+	}
+
+	@Benchmark
+	public Result<Long> compactFoldLeft() {
+		return compact.foldLeft(0L, sum -> i -> sum + i);
+	}
+
+	@Benchmark
+	public Result<Boolean> linkedAnyMatch() {
+		return linked.anyMatch(i -> i < 0);
+	}
+
+	@Benchmark
+	public Result<Boolean> compactAnyMatch() {
+		return compact.anyMatch(i -> i < 0);
+	}
+
+	@Benchmark
+	public List<Integer> linkedMap() {
+		return linked.map(i -> i + 1);
+	}
+
+	@Benchmark
+	public List<Integer> compactMap() {
+		return compact.map(i -> i + 1);
+	}
+}
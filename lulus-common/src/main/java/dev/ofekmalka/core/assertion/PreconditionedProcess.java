@@ -5,13 +5,16 @@ import java.util.Objects;
 import dev.ofekmalka.core.assertion.If.Condition;
 import dev.ofekmalka.core.assertion.result.Result;
 import dev.ofekmalka.core.assertion.result.Result.ErrorMessages;
+import dev.ofekmalka.core.function.CheckedOperation;
 import dev.ofekmalka.core.function.Function;
 import dev.ofekmalka.core.function.Supplier;
 import dev.ofekmalka.tools.helper.Nothing;
-import dev.ofekmalka.tools.tuple.Tuple2;
 
 public final class PreconditionedProcess<A> {
 
+	// shared by every precondition that holds, the success path allocates no result of its own
+	private static final Result<Nothing> PRECONDITIONS_HOLD = Result.success(Nothing.INSTANCE);
+
 	private final Result<A> objectResult;
 
 	private PreconditionedProcess(final Result<A> list) {
@@ -23,17 +26,10 @@ public final class PreconditionedProcess<A> {
 	}
 
 	public static <A> PreconditionedProcess<A> from(final Result<A> objectResult) {
+		if (Objects.isNull(objectResult) || objectResult.isEmpty())
+			throw new RuntimeException("objectResult in PreconditionedProcess is empty kind");
 
-		final var validatedObjectResult = //
-				If.givenObject(objectResult)//
-						.isNot(Result::isEmpty)//
-						.will()//
-						.getValueOrElseThrow(
-								() -> new RuntimeException("objectResult in PreconditionedProcess is empty kind"));
-
-		return new PreconditionedProcess<>(
-
-				validatedObjectResult);
+		return new PreconditionedProcess<>(objectResult);
 	}
 
 	public static <A> PreconditionedProcess<A> fromValue(final A object) {
@@ -67,67 +63,85 @@ public final class PreconditionedProcess<A> {
 
 	public <T> PreconditionStage<A> checkCondition(final Function<A, Condition<T>> condition) {
 
-		final var preconditionResultTuple = objectResult.flatMap(list -> {
-
-			final var afterValidateArgs = condition.apply(list).will()//
-					.returnValue(() -> Nothing.INSTANCE)//
-					.getResult()//
-			;
+		final var afterValidateArgs = objectResult.flatMap(list -> condition.apply(list).will()//
+				.returnValue(() -> Nothing.INSTANCE)//
+				.getResult());
 
-			return Tuple2.<Result<Nothing>, A>of(afterValidateArgs, list).getResult();
-		});
-
-		return new PreconditionStage<>(preconditionResultTuple);
+		return new PreconditionStage<>(objectResult, afterValidateArgs);
 	}
 
 	public <T> PreconditionStage<A> checkCondition(final Supplier<Condition<T>> conditionSupplier) {
 
-		final var preconditionResultTuple = objectResult.flatMap(list -> {
-
-			final var afterValidateArgs = conditionSupplier//
-					.get()//
-					.will()//
-					.returnValue(() -> Nothing.INSTANCE)
-
-					.getResult()//
-			;
-
-			return Tuple2.<Result<Nothing>, A>of(afterValidateArgs, list).getResult();
-		});
+		final var afterValidateArgs = objectResult.flatMap(list -> conditionSupplier//
+				.get()//
+				.will()//
+				.returnValue(() -> Nothing.INSTANCE)//
+				.getResult());
 
-		return new PreconditionStage<>(preconditionResultTuple);
+		return new PreconditionStage<>(objectResult, afterValidateArgs);
 
 	}
 
 	public <T> PreconditionStage<A> checkResult(final Supplier<Result<T>> conditionSupplier) {
 
-		final var preconditionResultTuple = objectResult.flatMap(list -> {
+		final var afterValidateArgs = objectResult.flatMap(list -> conditionSupplier.get()//
+				.map(__ -> Nothing.INSTANCE));
 
-			final var afterValidateArgs = conditionSupplier.get()
+		return new PreconditionStage<>(objectResult, afterValidateArgs);
 
-					.map(__ -> Nothing.INSTANCE);//
+	}
+
+	/**
+	 * Same failure as {@code checkCondition(() -> If.givenObject(argument).isNonNull(argumentName))},
+	 * for the precondition most operations have, without building a supplier, an
+	 * {@link If} and its {@link Condition} on every call.
+	 */
+	public PreconditionStage<A> requireNonNull(final Object argument, final String argumentName) {
+		return new PreconditionStage<>(objectResult, nonNull(argument, argumentName));
+	}
+
+	public PreconditionStage<A> requireNonNull(final Object argument, final String argumentName,
+			final Object otherArgument, final String otherArgumentName) {
+		return new PreconditionStage<>(objectResult, nonNull(argument, argumentName, otherArgument, otherArgumentName));
+	}
 
-			return Tuple2.<Result<Nothing>, A>of(afterValidateArgs, list).getResult();
-		});
+	public PreconditionStage<A> requireNonNull(final Object argument, final String argumentName,
+			final Object secondArgument, final String secondArgumentName, final Object thirdArgument,
+			final String thirdArgumentName) {
+		final var afterValidateArgs = Objects.isNull(argument) || Objects.isNull(secondArgument)
+				? nonNull(argument, argumentName, secondArgument, secondArgumentName)
+				: nonNull(thirdArgument, thirdArgumentName);
+		return new PreconditionStage<>(objectResult, afterValidateArgs);
+	}
 
-		return new PreconditionStage<>(preconditionResultTuple);
+	// the failure of the object itself comes first, as it does in checkCondition
+	private Result<Nothing> nonNull(final Object argument, final String argumentName) {
+		if (!objectResult.isSuccess())
+			return objectResult.map(ignore -> Nothing.INSTANCE);
+		return Objects.isNull(argument) //
+				? Result.failure(If.formatErrorMessageForNullValue(argumentName))
+				: PRECONDITIONS_HOLD;
+	}
 
+	private Result<Nothing> nonNull(final Object argument, final String argumentName, final Object otherArgument,
+			final String otherArgumentName) {
+		return Objects.isNull(argument) ? nonNull(argument, argumentName) : nonNull(otherArgument, otherArgumentName);
 	}
 
 	public static class PreconditionStage<A> {
 
-		private final Result<Tuple2<Result<Nothing>, A>> preconditionResult;
+		private final Result<A> objectResult;
+		// a success only when the object is one and every precondition holds
+		private final Result<Nothing> afterValidateArgs;
 
-		private PreconditionStage(final Result<Tuple2<Result<Nothing>, A>> r) {
-			this.preconditionResult = r;
+		private PreconditionStage(final Result<A> objectResult, final Result<Nothing> afterValidateArgs) {
+			this.objectResult = objectResult;
+			this.afterValidateArgs = afterValidateArgs;
 		}
 
 		public <T> ResultStage<T> processOperationBySupplierResult(final Supplier<Result<T>> f) {
 
-			final var mappedResult = preconditionResult
-
-					.map(Tuple2::state)
-					.flatMap(afterArgValidation -> afterArgValidation.flatMap(ignore -> f.safeGet().flatMap(t -> t)));
+			final var mappedResult = afterValidateArgs.flatMap(ignore -> f.safeGet().flatMap(t -> t));
 
 			return convertToResultHandler(mappedResult);
 
@@ -135,10 +149,7 @@ public final class PreconditionedProcess<A> {
 
 		public <T> ResultStage<T> processOperationBySupplierObject(final Supplier<T> f) {
 
-			final var mappedResult = preconditionResult
-
-					.map(Tuple2::state)
-					.flatMap(afterArgValidation -> afterArgValidation.flatMap(ignore -> f.safeGet()));
+			final var mappedResult = afterValidateArgs.flatMap(ignore -> f.safeGet());
 
 			return convertToResultHandler(mappedResult);
 
@@ -146,13 +157,7 @@ public final class PreconditionedProcess<A> {
 
 		public <T> ResultStage<T> processOperationWithResult(final Function<A, Result<T>> f) {
 
-			final var mappedResult = preconditionResult.flatMap(t -> {
-
-				final var afterArgValidation = t.state();
-				final var list = t.value();
-
-				return afterArgValidation.flatMap(ignore -> f.apply(list));
-			});
+			final var mappedResult = afterValidateArgs.flatMap(ignore -> f.apply(objectResult.successValue()));
 
 			return convertToResultHandler(mappedResult);
 
@@ -160,12 +165,7 @@ public final class PreconditionedProcess<A> {
 
 		public <T> ResultStage<T> processOperation(final Function<A, T> f) {
 
-			final var mappedResult = preconditionResult.flatMap(t -> {
-
-				final var afterArgValidation = t.state();
-				final var list = t.value();
-				return afterArgValidation.map(ignore -> f.apply(list));
-			});
+			final var mappedResult = afterValidateArgs.map(ignore -> f.apply(objectResult.successValue()));
 
 			return convertToResultHandler(mappedResult);
 
@@ -219,16 +219,27 @@ public final class PreconditionedProcess<A> {
 						.asFailure()//
 						.failureValue();
 
-			final var result = mapperToObjectThatContainResultAsField.safeApplyOn(r);
-			if (result.isFailure())
-				throw ErrorMessages//
-						.inClass("PreconditionedProcess.ResultWrapper")//
-						.forArgumentName("mapperToObjectThatContainResultAsField")//
-						.inMethod("convertTo")//
-						.withThisErrorExplanation(result.failureValue().getMessage()).asFailure()//
-						.failureValue();
+			// the failures safeApplyOn would give, without wrapping every success in a Result
+			final Q result;
+			try {
+				result = mapperToObjectThatContainResultAsField.apply(r);
+			} catch (final Exception e) {
+				throw mapToFailure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			if (Objects.isNull(result))
+				throw mapToFailure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
 
-			return result.successValue();
+			return result;
+
+		}
+
+		private static RuntimeException mapToFailure(final String explanation) {
+			return ErrorMessages//
+					.inClass("PreconditionedProcess.ResultWrapper")//
+					.forArgumentName("mapperToObjectThatContainResultAsField")//
+					.inMethod("convertTo")//
+					.withThisErrorExplanation(explanation).asFailure()//
+					.failureValue();
 
 		}
 
@@ -243,6 +254,9 @@ public final class PreconditionedProcess<A> {
 						.asFailure()//
 						.failureValue();
 
+			if (r.isSuccess())
+				return r.successValue();
+
 			final var result = mapperErrorMessageInFailureState.safeApplyOn("");// dummy string
 			if (result.isFailure())
 				throw ErrorMessages//
@@ -10,7 +10,9 @@ import dev.ofekmalka.core.function.ConsoleOutputEffect;
 import dev.ofekmalka.core.function.Function;
 import dev.ofekmalka.core.function.Supplier;
 import dev.ofekmalka.tools.helper.ErrorTracker;
+import dev.ofekmalka.tools.helper.FailureTrace;
 import dev.ofekmalka.tools.helper.Nothing;
+import dev.ofekmalka.tools.helper.TraceCleaner;
 
 /**
  * The {@code Result<T>} class is a functional programming construct designed to
@@ -64,6 +66,9 @@ public sealed abstract class Result<T> implements //
 	}
 
 	public static <T> Result<T> of(final T value) {
+		if (Objects.nonNull(value))
+			return success(value);
+
 		final var defaultFailureMessageForNullValue = ErrorMessages//
 				.inClass("Result")//
 				.forArgumentName("value")//
@@ -99,53 +104,61 @@ public sealed abstract class Result<T> implements //
 	}
 
 	public static <T> Result<T> of(final Supplier<T> supplier) {
-		final var defaultErrorMessageIfSupplierProduceNullValue = ErrorMessages//
+		if (Objects.isNull(supplier))
+			return ErrorMessages//
+					.inClass("Result")//
+					.forArgumentName("supplier")//
+					.inStaticMethod("of")//
+					.shouldNotBeNull()//
+					.<T>asFailure();
+
+		try {
+			final var value = supplier.get();
+			if (Objects.nonNull(value))
+				return success(value);
+		} catch (final Exception e) {
+			return ErrorMessages//
+					.inClass("Result")//
+					.forArgumentName("supplier")//
+					.inStaticMethod("of")//
+					.withThisErrorExplanation("A runtime exception was thrown from the callable arg, which is undesirable!")//
+					.<T>asFailure();
+		}
+
+		return ErrorMessages//
 				.inClass("Result")//
 				.forArgumentName("supplier")//
 				.inStaticMethod("of")//
 				.shouldNot("provide null value")//
-				.asErrorMessage();
-		return of(supplier, defaultErrorMessageIfSupplierProduceNullValue);
+				.<T>asFailure();
 	}
 
 	public static <T> Result<T> of(final Supplier<T> supplier, //
 			final String errorMessageIfSupplierProduceNullValue) {//
-		final var errorSupplierCannotBeNullFailure = ErrorMessages//
-				.inClass("Result")//
-				.forArgumentName("supplier")//
-				.inStaticMethod("of")//
-				.shouldNotBeNull()//
-				.<T>asFailure();
-
-		final var errorMessageCannotBeNullFailure = ErrorMessages//
-				.inClass("Result")//
-				.forArgumentName("errorMessageIfCallableProduceNullValue")//
-				.inStaticMethod("of")//
-				.shouldNotBeNull()//
-				.<T>asFailure();
-
-		final var errorMessageCannotBeBlankFailure = ErrorMessages//
-				.inClass("Result")//
-				.forArgumentName("errorMessageIfCallableProduceNullValue")//
-				.inStaticMethod("of")//
-				.shouldNotBe("blank")//
-				.<T>asFailure();
-
-		final var errorSupplierProduceRuntimeExceptionExplanation = ErrorMessages//
-				.inClass("Result")//
-				.forArgumentName("supplier")//
-				.inStaticMethod("of")//
-				.withThisErrorExplanation("A runtime exception was thrown from the callable arg, which is undesirable!")//
-				.asErrorMessage();
 
 		if (Objects.isNull(errorMessageIfSupplierProduceNullValue))
-			return errorMessageCannotBeNullFailure;
+			return ErrorMessages//
+					.inClass("Result")//
+					.forArgumentName("errorMessageIfCallableProduceNullValue")//
+					.inStaticMethod("of")//
+					.shouldNotBeNull()//
+					.<T>asFailure();
 
 		if (errorMessageIfSupplierProduceNullValue.isBlank())
-			return errorMessageCannotBeBlankFailure;
+			return ErrorMessages//
+					.inClass("Result")//
+					.forArgumentName("errorMessageIfCallableProduceNullValue")//
+					.inStaticMethod("of")//
+					.shouldNotBe("blank")//
+					.<T>asFailure();
 
 		if (Objects.isNull(supplier))
-			return errorSupplierCannotBeNullFailure;
+			return ErrorMessages//
+					.inClass("Result")//
+					.forArgumentName("supplier")//
+					.inStaticMethod("of")//
+					.shouldNotBeNull()//
+					.<T>asFailure();
 
 		try {
 			final var value = supplier.get();
@@ -153,7 +166,12 @@ public sealed abstract class Result<T> implements //
 					? new Failure<>(errorMessageIfSupplierProduceNullValue) //
 					: success(value);
 		} catch (final Exception e) {
-			return Result.failure(errorSupplierProduceRuntimeExceptionExplanation);
+			return ErrorMessages//
+					.inClass("Result")//
+					.forArgumentName("supplier")//
+					.inStaticMethod("of")//
+					.withThisErrorExplanation("A runtime exception was thrown from the callable arg, which is undesirable!")//
+					.<T>asFailure();
 		}
 
 	}
@@ -202,7 +220,7 @@ public sealed abstract class Result<T> implements //
 					.shouldNotBeNull()//
 					.asFailure();//
 
-		return new Failure<>(new IllegalStateException(message, exception));//
+		return new Failure<>(new FailureException(message, exception));//
 
 	}
 
@@ -479,24 +497,55 @@ public sealed abstract class Result<T> implements //
 		 */
 		private final RuntimeException exception;
 
+		/**
+		 * Failures are routinely used for control flow (a missing key, the end of a
+		 * stream), so a failure built from a message only keeps the message and
+		 * creates its exception on demand, see {@link FailureStackTraces}. The
+		 * message is a {@link FailureTrace}: each layer prepends a frame in O(1) and
+		 * the text is rendered only when it is read.
+		 */
+		private final FailureTrace trace;
+
 		/**
 		 *
 		 * Constructors are private. If a Failure is constructed with a message, it’s
 		 * wrapped into a RuntimeException (more specifically, the IllegalStateException
-		 * subclass)
+		 * subclass {@link FailureException}) when it is requested
 		 *
 		 */
 		private Failure(final String message) {
-			this.exception = new IllegalStateException(message);
+			this(FailureTrace.of(message));
+		}
+
+		private Failure(final FailureTrace trace) {
+			this.trace = trace;
+			this.exception = FailureStackTraces.areEnabled()//
+					? new FailureException(trace)//
+					: null;
 
 		}
 
 		private Failure(final RuntimeException e) {
+			this.trace = null;
 			this.exception = e;
 		}
 
 		private Failure(final Exception e) {
-			this.exception = new IllegalStateException(e);
+			this.trace = null;
+			this.exception = new FailureException(e);
+		}
+
+		private Failure(final Failure<?> other) {
+			this.trace = other.trace;
+			this.exception = other.exception;
+		}
+
+		private FailureTrace failureTrace() {
+			return Objects.isNull(trace) ? FailureTrace.of(exception.getMessage()) : trace;
+		}
+
+		private String failureMessage() {
+			return failureTrace().render();
 		}
 
 		@Override
@@ -521,12 +570,12 @@ public sealed abstract class Result<T> implements //
 
 		@Override
 		public <U> Result<U> map(final Function<T, U> mapper) {
-			return new Failure<>(this.exception);
+			return new Failure<>(this);
 		}
 
 		@Override
 		public <U> Result<U> flatMap(final Function<T, Result<U>> flatMapper) {
-			return new Failure<>(this.exception);
+			return new Failure<>(this);
 		}
 
 		@Override
@@ -563,10 +612,13 @@ public sealed abstract class Result<T> implements //
 						.shouldNotBe("blank")//
 						.<T>asFailure();
 
-			final var originalMessage = this.exception.getMessage();
+			return new Failure<>(failureTrace().prependMessage(additionalFailureMessage));
 
-			return new Failure<>(additionalFailureMessage + "\n" + originalMessage);
+		}
 
+		@Override
+		public Result<T> prependMethodNameToFailureMessage(final String methodName) {
+			return new Failure<>(failureTrace().prependCall(methodName));
 		}
 
 		@Override
@@ -625,14 +677,21 @@ public sealed abstract class Result<T> implements //
 					.inClass("Result")//
 					.inMethod("successValue")//
 					.withThisErrorExplanation(
-							"Called on a Failure instance.\nThe failure message:\n " + this.exception.getMessage())//
+							"Called on a Failure instance.\nThe failure message:\n " + failureMessage())//
 					.<T>asFailure()//
 					.failureValue();
 		}
 
 		@Override
 		public RuntimeException failureValue() {
-			return this.exception;
+			return Objects.isNull(exception)//
+					? new FailureException(trace)//
+					: exception;
+		}
+
+		@Override
+		public String getFailureMessageOrDefault() {
+			return failureMessage();
 		}
 
 		@Override
@@ -650,13 +709,13 @@ public sealed abstract class Result<T> implements //
 
 			// Check if the exception messages are the same
 			return getClass() == other.getClass()//
-					&& Objects.equals(exception.getMessage(), other.exception.getMessage());//
+					&& Objects.equals(failureMessage(), other.failureMessage());//
 		}
 
 		@Override
 		public int hashCode() {
 			// Return a hash code based on the class and exception message
-			return Objects.hash(getClass(), exception.getMessage());
+			return Objects.hash(getClass(), failureMessage());
 		}
 
 		@Override
@@ -666,15 +725,13 @@ public sealed abstract class Result<T> implements //
 
 		@Override
 		public Result<T> removeCalledByMethodPrefixes() {
-			final var TRACE_PREFIX_PATTERN = Pattern.compile("(?m)^Called by the method name '.*?' ->\\s*");
-
-			return new Failure<>(TRACE_PREFIX_PATTERN.matcher(exception.getMessage()).replaceAll(""));
+			return new Failure<>(TraceCleaner.removeCalledByMethodPrefixes(failureTrace()));
 
 		}
 
 		@Override
 		public Result<T> extractOnlyUserError() {
-			return new Failure<>(extractOnlyUserError(this.failureValue().getMessage()));
+			return new Failure<>(extractOnlyUserError(failureMessage()));
 
 		}
 
@@ -697,6 +754,80 @@ public sealed abstract class Result<T> implements //
 		// extractOnlyUserError(final String fullErrorMessage)
 	}
 
+	/**
+	 * Controls whether failures capture a stack trace.
+	 * <p>
+	 * By default a failure built from a message carries no stack trace: filling it
+	 * in is by far the most expensive part of creating a failure, and most failures
+	 * are expected outcomes rather than bugs. For debugging, full traces can be
+	 * re-enabled with the system property
+	 * {@value #FULL_STACK_TRACES_PROPERTY}{@code =true} or at runtime with
+	 * {@link #enable()}.
+	 */
+	public final static class FailureStackTraces {
+
+		public static final String FULL_STACK_TRACES_PROPERTY = "lulus.result.fullStackTraces";
+
+		private static volatile boolean enabled = Boolean.getBoolean(FULL_STACK_TRACES_PROPERTY);
+
+		private FailureStackTraces() {
+		}
+
+		public static void enable() {
+			enabled = true;
+		}
+
+		public static void disable() {
+			enabled = false;
+		}
+
+		public static boolean areEnabled() {
+			return enabled;
+		}
+	}
+
+	/**
+	 * The exception carried by a {@link Failure}, an {@link IllegalStateException}
+	 * that fills in its stack trace only when
+	 * {@link FailureStackTraces#areEnabled()}. It prints under its own class name,
+	 * so {@code Failure.toString()} reads
+	 * {@code dev.ofekmalka.core.assertion.result.Result$FailureException: <message>}.
+	 */
+	public final static class FailureException extends IllegalStateException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FailureTrace trace;
+
+		private FailureException(final FailureTrace trace) {
+			this.trace = trace;
+		}
+
+		private FailureException(final String message, final Throwable cause) {
+			super(message, cause);
+			this.trace = null;
+		}
+
+		private FailureException(final Throwable cause) {
+			super(cause);
+			this.trace = null;
+		}
+
+		@Override
+		public String getMessage() {
+			return Objects.isNull(trace) ? super.getMessage() : trace.render();
+		}
+
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return FailureStackTraces.areEnabled()//
+					? super.fillInStackTrace()//
+					: this;
+		}
+
+	}
+
 	final static class Empty<T> extends Result<T> {
 
 		public Empty() {
@@ -754,6 +885,11 @@ public sealed abstract class Result<T> implements //
 			return this;
 		}
 
+		@Override
+		public Result<T> prependMethodNameToFailureMessage(final String methodName) {
+			return this;
+		}
+
 		@Override
 		public Result<Nothing> mapEmpty() {
 			return success(Nothing.INSTANCE);
@@ -880,13 +1016,8 @@ public sealed abstract class Result<T> implements //
 		@Override
 		public Result<T> validate(final Function<T, Boolean> predicate, final String failureMessage) {
 
-			final var predicateErrorMessage = ErrorMessages//
-					.inClass("Result")//
-					.forArgumentName("predicate")//
-					.inMethod("validate");
-
 			if (Objects.isNull(predicate))
-				return predicateErrorMessage//
+				return argumentError("predicate", "validate")//
 						.shouldNotBeNull()//
 						.<T>asFailure();
 
@@ -909,16 +1040,16 @@ public sealed abstract class Result<T> implements //
 			try {
 				final var isCoonditionTrue = predicate.apply(value);//
 				return Objects.isNull(isCoonditionTrue)//
-						? predicateErrorMessage//
+						? argumentError("predicate", "validate")//
 								.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage())//
 								.<T>asFailure()//
 						: isCoonditionTrue //
 								? this//
 								: failure(failureMessage);//
 			} catch (final Exception e) {
-				return Result.failure(predicateErrorMessage//
+				return argumentError("predicate", "validate")//
 						.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage())//
-						.asErrorMessage());
+						.<T>asFailure();
 			}
 
 		}
@@ -931,13 +1062,8 @@ public sealed abstract class Result<T> implements //
 		@Override
 		public Result<T> reject(final Function<T, Boolean> predicate, final String failureMessage) {
 
-			final var predicateErrorMessage = ErrorMessages//
-					.inClass("Result")//
-					.forArgumentName("predicate")//
-					.inMethod("reject");
-
 			if (Objects.isNull(predicate))
-				return predicateErrorMessage//
+				return argumentError("predicate", "reject")//
 						.shouldNotBeNull()//
 						.<T>asFailure();
 
@@ -960,81 +1086,81 @@ public sealed abstract class Result<T> implements //
 			try {
 				final var isCoonditionTrue = predicate.apply(value);//
 				return Objects.isNull(isCoonditionTrue)//
-						? predicateErrorMessage//
+						? argumentError("predicate", "reject")//
 								.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage())//
 								.<T>asFailure()//
 						: isCoonditionTrue //
 								? failure(failureMessage) //
 								: this;//
 			} catch (final Exception e) {
-				return Result.failure(predicateErrorMessage//
+				return argumentError("predicate", "reject")//
 						.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage())//
-						.asErrorMessage());
+						.<T>asFailure();
 			}
 
 		}
 
+		/**
+		 * The success path must stay as cheap as a plain function call: the only
+		 * allocation is the new {@code Success} holding the mapped value. Diagnostic
+		 * messages are built only on the branch that actually fails.
+		 */
 		@Override
 		public <U> Result<U> map(final Function<T, U> mapper) {
 
-			final var mapperErrorMessage = ErrorMessages//
-					.inClass("Result")//
-					.forArgumentName("mapper")//
-					.inMethod("map");
-
 			if (Objects.isNull(mapper))
-				return mapperErrorMessage//
+				return argumentError("mapper", "map")//
 						.shouldNotBeNull()//
 						.<U>asFailure();
 
-			final var errorMapperProduceNullValueFailure = mapperErrorMessage//
-					.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage())//
-					.<U>asFailure();
-
-			final var errorMapperProduceRuntimeExceptionMessage = mapperErrorMessage//
-					.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage())//
-					.asErrorMessage();
-
+			final U rValue;
 			try {
-				final var rValue = mapper.apply(value);//
-				return Objects.isNull(rValue)//
-						? errorMapperProduceNullValueFailure//
-						: success(rValue);//
+				rValue = mapper.apply(value);//
 			} catch (final Exception e) {
-				return Result.failure(errorMapperProduceRuntimeExceptionMessage);
+				return argumentError("mapper", "map")//
+						.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage())//
+						.<U>asFailure();
 			}
 
+			return Objects.isNull(rValue)//
+					? argumentError("mapper", "map")//
+							.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage())//
+							.<U>asFailure()//
+					: success(rValue);//
+
 		}
 
 		@Override
 		public <U> Result<U> flatMap(final Function<T, Result<U>> flatMapper) {
-			final var flatMapperErrorMessage = ErrorMessages//
-					.inClass("Result")//
-					.forArgumentName("flatMapper")//
-					.inMethod("flatMap");
 
 			if (Objects.isNull(flatMapper))
-				return flatMapperErrorMessage//
+				return argumentError("flatMapper", "flatMap")//
 						.shouldNotBeNull()//
 						.<U>asFailure();
 
-			final var errorFlatMapperProduceRuntimeExceptionMessage = flatMapperErrorMessage//
-					.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage())//
-					.asErrorMessage();
-			final var errorFlatMapperProduceNullValueFailure = flatMapperErrorMessage//
-					.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage())//
-					.<U>asFailure();
-
+			final Result<U> rValue;
 			try {
-				final var rValue = flatMapper.apply(value);//
-
-				return Objects.isNull(rValue)//
-						? errorFlatMapperProduceNullValueFailure//
-						: rValue;//
+				rValue = flatMapper.apply(value);//
 			} catch (final Exception e) {
-				return Result.failure(errorFlatMapperProduceRuntimeExceptionMessage);
+				return argumentError("flatMapper", "flatMap")//
+						.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage())//
+						.<U>asFailure();
 			}
 
+			return Objects.isNull(rValue)//
+					? argumentError("flatMapper", "flatMap")//
+							.withThisErrorExplanation(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage())//
+							.<U>asFailure()//
+					: rValue;//
+
+		}
+
+		private static ErrorMessages.InClass.ArgumentError.ContextError argumentError(final String argumentName,
+				final String methodName) {
+			return ErrorMessages//
+					.inClass("Result")//
+					.forArgumentName(argumentName)//
+					.inMethod(methodName);
 		}
 
 		@Override
@@ -1060,6 +1186,12 @@ public sealed abstract class Result<T> implements //
 
 		}
 
+		// no frame to add, so the method name is not even formatted
+		@Override
+		public Result<T> prependMethodNameToFailureMessage(final String methodName) {
+			return this;
+		}
+
 		@Override
 		public Result<Nothing> mapEmpty() {
 			return Result.<Nothing>failure("Not empty");
@@ -891,7 +891,7 @@ public class Grid<T> implements ResultProvider<Grid<T>>,
 	@Override
 	public Result<Boolean> isInBounds(final GridCoordinate gridCoordinate) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(gridCoordinate).isNonNull("gridCoordinate"))
+				.requireNonNull(gridCoordinate, "gridCoordinate")
 				.processOperation(grid -> grid.isInBounds(gridCoordinate))//
 				.andMakeStackTraceUnderTheName("isInBounds")//
 				.getResultProccess();//
@@ -949,7 +949,7 @@ public class Grid<T> implements ResultProvider<Grid<T>>,
 	public <R> Grid<R> map(final Function<T, R> mapper) {
 		final var r = from(source)//
 
-				.checkCondition(() -> If.givenObject(mapper).isNonNull("mapper"))
+				.requireNonNull(mapper, "mapper")
 
 				.processOperation(grid -> grid.map(mapper))//
 				.andMakeStackTraceUnderTheName("map")//
@@ -962,7 +962,7 @@ public class Grid<T> implements ResultProvider<Grid<T>>,
 	public <R> Grid<R> mapWithPosition(final Function<GridCoordinate, Function<T, R>> mapper) {
 		final var r = from(source)//
 
-				.checkCondition(() -> If.givenObject(mapper).isNonNull("mapper"))
+				.requireNonNull(mapper, "mapper")
 
 				.processOperation(grid -> grid.mapWithPosition(mapper))//
 				.andMakeStackTraceUnderTheName("mapWithPosition")//
@@ -974,7 +974,7 @@ public class Grid<T> implements ResultProvider<Grid<T>>,
 	@Override
 	public Grid<T> filter(final Function<T, Boolean> predicate) {
 		final var r = from(source)//
-				.checkCondition(() -> If.givenObject(predicate).isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 				.processOperation(grid -> grid.filter(predicate))//
 				.andMakeStackTraceUnderTheName("filter")//
 				.getResultProccess();//
@@ -1049,8 +1049,7 @@ public class Grid<T> implements ResultProvider<Grid<T>>,
 	public Grid<T> setAt(final GridCoordinate gridCoordinate, final T value) {
 		return from(source)//
 
-				.checkCondition(() -> If.givenObject(gridCoordinate).isNonNull("gridCoordinate")
-						.andOtherObjectIsNotNull(value, "value"))
+				.requireNonNull(gridCoordinate, "gridCoordinate", value, "value")
 
 				.processOperationWithResult(grid -> grid.setAt(gridCoordinate, value))//
 				.andMakeStackTraceUnderTheName("setAt")//
@@ -1062,7 +1061,7 @@ public class Grid<T> implements ResultProvider<Grid<T>>,
 	public Result<T> getAt(final GridCoordinate gridCoordinate) {
 		return from(source)//
 
-				.checkCondition(() -> If.givenObject(gridCoordinate).isNonNull("gridCoordinate"))
+				.requireNonNull(gridCoordinate, "gridCoordinate")
 
 				.processOperationWithResult(grid -> grid.getAt(gridCoordinate))//
 				.andMakeStackTraceUnderTheName("getAt")//
@@ -1073,7 +1072,7 @@ public class Grid<T> implements ResultProvider<Grid<T>>,
 	@Override
 	public Grid<T> subGrid(final GridRegion gridRegion) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(gridRegion).isNonNull("gridRegion"))
+				.requireNonNull(gridRegion, "gridRegion")
 				.processOperationWithResult(grid -> grid.subGrid(gridRegion))//
 				.andMakeStackTraceUnderTheName("subGrid")//
 				.mapTo(Grid::makeTypeSafe);
@@ -0,0 +1,207 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import static dev.ofekmalka.core.assertion.PreconditionedProcess.from;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List.Errors;
+import dev.ofekmalka.core.data_structure.list.behavior.PrimitiveListBehavior;
+import dev.ofekmalka.core.function.CheckedOperation;
+
+/**
+ * An immutable list of {@code double} values packed into one array, for numeric
+ * work that should not pay for a boxed {@link Double} and a list cell per
+ * element. Like {@link List}, every operation returns a {@link Result} or an
+ * {@code DoubleList} that carries the failure on.
+ */
+public final class DoubleList implements PrimitiveListBehavior.OfDouble {
+
+	private final Result<double[]> source;
+
+	private DoubleList(final Result<double[]> source) {
+		this.source = source;
+	}
+
+	private static DoubleList makeTypeSafe(final Result<double[]> source) {
+		return new DoubleList(source);
+	}
+
+	public static DoubleList failureWithMessage(final String message) {
+		return new DoubleList(Result.failure(message));
+	}
+
+	public static DoubleList of(final double... values) {
+		return DoubleList.makeTypeSafe(PrimitiveArrays.DOUBLES.of(values));
+	}
+
+	public static DoubleList fromList(final List<Double> list) {
+		return DoubleList.makeTypeSafe(PrimitiveArrays.DOUBLES.fromList(list));
+	}
+
+	public boolean isProcessSuccess() {
+		return source.isSuccess();
+	}
+
+	@Override
+	public Result<Integer> size() {
+		return PrimitiveArrays.DOUBLES.size(source);
+	}
+
+	@Override
+	public Result<Boolean> isEmpty() {
+		return PrimitiveArrays.DOUBLES.isEmpty(source);
+	}
+
+	@Override
+	public Result<Double> elementAt(final int index) {
+		return PrimitiveArrays.DOUBLES.elementAt(source, index);
+	}
+
+	@Override
+	public Result<Integer> indexOf(final double element) {
+		return from(source)//
+				.processOperationWithResult(values -> indexOf(values, element))//
+				.andMakeStackTraceUnderTheName("indexOf")//
+				.getResultProccess();
+	}
+
+	@Override
+	public <B> Result<B> foldLeft(final B identity, final PrimitiveListBehavior.DoubleAccumulator<B> accumulator) {
+		return from(source)//
+				.requireNonNull(identity, "identity", accumulator, "accumulator")//
+				.processOperationWithResult(values -> foldLeft(values, identity, accumulator))//
+				.andMakeStackTraceUnderTheName("foldLeft")//
+				.getResultProccess();
+	}
+
+	@Override
+	public Result<Double> reduce(final DoubleBinaryOperator operator) {
+		return from(source)//
+				.requireNonNull(operator, "operator")//
+				.processOperationWithResult(values -> reduce(values, operator))//
+				.andMakeStackTraceUnderTheName("reduce")//
+				.getResultProccess();
+	}
+
+	@Override
+	public Result<Double> sum() {
+		return from(source)//
+				.processOperation(DoubleList::sum)//
+				.andMakeStackTraceUnderTheName("sum")//
+				.getResultProccess();
+	}
+
+	@Override
+	public DoubleList map(final DoubleUnaryOperator mapper) {
+		return from(source)//
+				.requireNonNull(mapper, "mapper")//
+				.processOperationWithResult(values -> map(values, mapper))//
+				.andMakeStackTraceUnderTheName("map")//
+				.mapTo(DoubleList::makeTypeSafe);
+	}
+
+	@Override
+	public DoubleList filter(final DoublePredicate predicate) {
+		return from(source)//
+				.requireNonNull(predicate, "predicate")//
+				.processOperationWithResult(values -> filter(values, predicate))//
+				.andMakeStackTraceUnderTheName("filter")//
+				.mapTo(DoubleList::makeTypeSafe);
+	}
+
+	@Override
+	public List<Double> toList() {
+		return PrimitiveArrays.DOUBLES.toList(source);
+	}
+
+	@Override
+	public Result<double[]> toArray() {
+		return PrimitiveArrays.DOUBLES.toArray(source);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return this == obj || obj instanceof final DoubleList other && PrimitiveArrays.DOUBLES.equal(source, other.source);
+	}
+
+	@Override
+	public int hashCode() {
+		return PrimitiveArrays.DOUBLES.hashCode(source);
+	}
+
+	@Override
+	public String toString() {
+		return PrimitiveArrays.DOUBLES.toString(source);
+	}
+
+	private static Result<Integer> indexOf(final double[] values, final double element) {
+		for (var i = 0; i < values.length; i++)
+			if (Double.compare(values[i], element) == 0)
+				return Result.success(i);
+		return Result.failure(Errors.CastumValueMessage.ERROR_INDEX_OF_ELEMENT_NOT_FOUND.withValue(element).getMessage());
+	}
+
+	private static <B> Result<B> foldLeft(final double[] values, final B identity,
+			final PrimitiveListBehavior.DoubleAccumulator<B> accumulator) {
+		try {
+			var result = identity;
+			for (final var value : values) {
+				result = accumulator.apply(result, value);
+				if (result == null)
+					return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+			}
+			return Result.success(result);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static Result<Double> reduce(final double[] values, final DoubleBinaryOperator operator) {
+		if (values.length == 0)
+			return Result.failure(Errors.EmptyListMessage.ERROR_REDUCE_IN_EMPTY_LIST.getMessage());
+		try {
+			var result = values[0];
+			for (var i = 1; i < values.length; i++)
+				result = operator.applyAsDouble(result, values[i]);
+			return Result.success(result);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static double sum(final double[] values) {
+		var result = 0.0;
+		for (final var value : values)
+			result += value;
+		return result;
+	}
+
+	private static Result<double[]> map(final double[] values, final DoubleUnaryOperator mapper) {
+		try {
+			final var mapped = new double[values.length];
+			for (var i = 0; i < values.length; i++)
+				mapped[i] = mapper.applyAsDouble(values[i]);
+			return Result.success(mapped);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static Result<double[]> filter(final double[] values, final DoublePredicate predicate) {
+		try {
+			final var kept = new double[values.length];
+			var count = 0;
+			for (final var value : values)
+				if (predicate.test(value))
+					kept[count++] = value;
+			return Result.success(count == values.length ? kept : Arrays.copyOf(kept, count));
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import static dev.ofekmalka.core.assertion.PreconditionedProcess.from;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List.Errors;
+import dev.ofekmalka.core.data_structure.list.behavior.PrimitiveListBehavior;
+import dev.ofekmalka.core.function.CheckedOperation;
+
+/**
+ * An immutable list of {@code int} values packed into one array, for numeric
+ * work that should not pay for a boxed {@link Integer} and a list cell per
+ * element. Like {@link List}, every operation returns a {@link Result} or an
+ * {@code IntList} that carries the failure on.
+ */
+public final class IntList implements PrimitiveListBehavior.OfInt {
+
+	private final Result<int[]> source;
+
+	private IntList(final Result<int[]> source) {
+		this.source = source;
+	}
+
+	private static IntList makeTypeSafe(final Result<int[]> source) {
+		return new IntList(source);
+	}
+
+	public static IntList failureWithMessage(final String message) {
+		return new IntList(Result.failure(message));
+	}
+
+	public static IntList of(final int... values) {
+		return IntList.makeTypeSafe(PrimitiveArrays.INTS.of(values));
+	}
+
+	public static IntList fromList(final List<Integer> list) {
+		return IntList.makeTypeSafe(PrimitiveArrays.INTS.fromList(list));
+	}
+
+	public boolean isProcessSuccess() {
+		return source.isSuccess();
+	}
+
+	@Override
+	public Result<Integer> size() {
+		return PrimitiveArrays.INTS.size(source);
+	}
+
+	@Override
+	public Result<Boolean> isEmpty() {
+		return PrimitiveArrays.INTS.isEmpty(source);
+	}
+
+	@Override
+	public Result<Integer> elementAt(final int index) {
+		return PrimitiveArrays.INTS.elementAt(source, index);
+	}
+
+	@Override
+	public Result<Integer> indexOf(final int element) {
+		return from(source)//
+				.processOperationWithResult(values -> indexOf(values, element))//
+				.andMakeStackTraceUnderTheName("indexOf")//
+				.getResultProccess();
+	}
+
+	@Override
+	public <B> Result<B> foldLeft(final B identity, final PrimitiveListBehavior.IntAccumulator<B> accumulator) {
+		return from(source)//
+				.requireNonNull(identity, "identity", accumulator, "accumulator")//
+				.processOperationWithResult(values -> foldLeft(values, identity, accumulator))//
+				.andMakeStackTraceUnderTheName("foldLeft")//
+				.getResultProccess();
+	}
+
+	@Override
+	public Result<Integer> reduce(final IntBinaryOperator operator) {
+		return from(source)//
+				.requireNonNull(operator, "operator")//
+				.processOperationWithResult(values -> reduce(values, operator))//
+				.andMakeStackTraceUnderTheName("reduce")//
+				.getResultProccess();
+	}
+
+	@Override
+	public Result<Long> sum() {
+		return from(source)//
+				.processOperation(IntList::sum)//
+				.andMakeStackTraceUnderTheName("sum")//
+				.getResultProccess();
+	}
+
+	@Override
+	public IntList map(final IntUnaryOperator mapper) {
+		return from(source)//
+				.requireNonNull(mapper, "mapper")//
+				.processOperationWithResult(values -> map(values, mapper))//
+				.andMakeStackTraceUnderTheName("map")//
+				.mapTo(IntList::makeTypeSafe);
+	}
+
+	@Override
+	public IntList filter(final IntPredicate predicate) {
+		return from(source)//
+				.requireNonNull(predicate, "predicate")//
+				.processOperationWithResult(values -> filter(values, predicate))//
+				.andMakeStackTraceUnderTheName("filter")//
+				.mapTo(IntList::makeTypeSafe);
+	}
+
+	@Override
+	public List<Integer> toList() {
+		return PrimitiveArrays.INTS.toList(source);
+	}
+
+	@Override
+	public Result<int[]> toArray() {
+		return PrimitiveArrays.INTS.toArray(source);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return this == obj || obj instanceof final IntList other && PrimitiveArrays.INTS.equal(source, other.source);
+	}
+
+	@Override
+	public int hashCode() {
+		return PrimitiveArrays.INTS.hashCode(source);
+	}
+
+	@Override
+	public String toString() {
+		return PrimitiveArrays.INTS.toString(source);
+	}
+
+	private static Result<Integer> indexOf(final int[] values, final int element) {
+		for (var i = 0; i < values.length; i++)
+			if (values[i] == element)
+				return Result.success(i);
+		return Result.failure(Errors.CastumValueMessage.ERROR_INDEX_OF_ELEMENT_NOT_FOUND.withValue(element).getMessage());
+	}
+
+	private static <B> Result<B> foldLeft(final int[] values, final B identity,
+			final PrimitiveListBehavior.IntAccumulator<B> accumulator) {
+		try {
+			var result = identity;
+			for (final var value : values) {
+				result = accumulator.apply(result, value);
+				if (result == null)
+					return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+			}
+			return Result.success(result);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static Result<Integer> reduce(final int[] values, final IntBinaryOperator operator) {
+		if (values.length == 0)
+			return Result.failure(Errors.EmptyListMessage.ERROR_REDUCE_IN_EMPTY_LIST.getMessage());
+		try {
+			var result = values[0];
+			for (var i = 1; i < values.length; i++)
+				result = operator.applyAsInt(result, values[i]);
+			return Result.success(result);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static long sum(final int[] values) {
+		var result = 0L;
+		for (final var value : values)
+			result += value;
+		return result;
+	}
+
+	private static Result<int[]> map(final int[] values, final IntUnaryOperator mapper) {
+		try {
+			final var mapped = new int[values.length];
+			for (var i = 0; i < values.length; i++)
+				mapped[i] = mapper.applyAsInt(values[i]);
+			return Result.success(mapped);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static Result<int[]> filter(final int[] values, final IntPredicate predicate) {
+		try {
+			final var kept = new int[values.length];
+			var count = 0;
+			for (final var value : values)
+				if (predicate.test(value))
+					kept[count++] = value;
+			return Result.success(count == values.length ? kept : Arrays.copyOf(kept, count));
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+}
@@ -6,16 +6,16 @@ import static dev.ofekmalka.core.assertion.result.Result.success;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
 import dev.ofekmalka.core.assertion.If;
 import dev.ofekmalka.core.assertion.If.Condition;
-import dev.ofekmalka.core.assertion.If.Condition.WillCondition.OrGet;
 import dev.ofekmalka.core.assertion.PreconditionedProcess;
 import dev.ofekmalka.core.assertion.PreconditionedProcess.PreconditionStage;
 import dev.ofekmalka.core.assertion.result.Result;
@@ -57,6 +57,9 @@ public final class List<A> implements //
 		ListBehavior.Operations.Reordering<A>, //
 		ListBehavior.Operations.Zipping<A>, //
 		ListBehavior.Operations.MonadicTransformation<A>, //
+		ListBehavior.Operations.Combinatorics<A>, //
+		ListBehavior.Operations.Ordering<A>, //
+		ListBehavior.Operations.Batching<A>, //
 		ConsoleOutputEffect //
 {//
 
@@ -106,6 +109,20 @@ public final class List<A> implements //
 		return source.successValue();
 	}
 
+	// Bridges for IntList, LongList and DoubleList, which box only when crossing
+	// over to a List. The elements are never null.
+	static <A> List<A> indexedFromElements(final Result<Object[]> elements) {
+		return List.makeTypeSafe(elements.map(ListImp.Vector::<A>fromElements));
+	}
+
+	static <A> List<A> linkedFromElements(final Object[] elements, final int from, final int until) {
+		return List.makeTypeSafe(ListImp.<A>fromBuffer(elements, from, until));
+	}
+
+	Object[] elementsAsArray() {
+		return ListImp.elementsOf(getListImpSource());
+	}
+
 	@Override
 	public Result<List<A>> getListResult() {
 		return source.map(List::makeTypeSafe);
@@ -159,11 +176,15 @@ public final class List<A> implements //
 	// TODO need to include '.andIsNot(array -> array.length > List.' in the test
 	@SafeVarargs
 	public static <A> List<A> list(final A... elements) {
+		return List.listWithin(SizePolicy.global(), elements);
+	}
+
+	@SafeVarargs
+	private static <A> List<A> listWithin(final SizePolicy sizePolicy, final A... elements) {
 		final var result = If.givenObject(elements)//
 				.isNonNull("elements")//
 				.andIs(array -> array.length > 0, GeneralMessage.ERROR_ZERO_LENGTH_ELEMENTS.getMessage())//
-				.andIsNot(array -> array.length > List.Errors.Constants.MAX_LIST_SIZE,
-						Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage())//
+				.andIs(array -> sizePolicy.allows(array.length), sizePolicy.exceededMessage())//
 
 				.will()//
 				.flatMapTo(List::validateAndCreateListOrFail)//
@@ -175,7 +196,7 @@ public final class List<A> implements //
 
 	@SafeVarargs
 	private static <A> Result<ListImp<A>> validateAndCreateListOrFail(final A... elements) {
-		final var nullIndexes = new ArrayList<Integer>(List.Errors.Constants.MAX_LIST_SIZE);
+		final var nullIndexes = new ArrayList<Integer>();
 
 		for (var i = 0; i < elements.length; i++) {
 			if (elements[i] == null) {
@@ -212,6 +233,13 @@ public final class List<A> implements //
 
 	}
 
+	/**
+	 * A transient builder, for code that grows a list one element at a time.
+	 */
+	public static <A> ListBuilder<A> builder() {
+		return new ListBuilder<>();
+	}
+
 	@SuppressWarnings("rawtypes")
 	private static final List EMPTY_LIST = List.makeTypeSafe(Result.success(ListImp.emptyList()));
 
@@ -233,7 +261,7 @@ public final class List<A> implements //
 
 	@Override
 	public boolean equals(final Object obj) {
-		return this.isEqualTo(obj).getOrElse(false);
+		return this == obj || this.isEqualTo(obj).getOrElse(false);
 
 	}
 
@@ -298,8 +326,8 @@ public final class List<A> implements //
 		return from(source)//
 				.checkCondition(l -> If.givenObject(element)//
 						.isNonNull("element")//
-						.andSupplierIsNot(() -> l.size() == Errors.Constants.MAX_LIST_SIZE, //
-								Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage()))//
+						.andSupplierIs(() -> SizePolicy.global().allows(l.size() + 1L), //
+								SizePolicy.global().exceededMessage()))//
 				.processOperation(l -> l.cons(element))//
 				.andMakeStackTraceUnderTheName("cons")//
 				.mapTo(List::makeTypeSafe);//
@@ -336,10 +364,8 @@ public final class List<A> implements //
 	@Override
 	public <B> Result<B> foldLeft(final B identity, final Function<B, Function<A, B>> accumulator) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(identity).isNonNull("identity")
-						.andOtherObjectIsNotNull(accumulator, "accumulator")
-
-				).processOperationWithResult(l -> l.foldLeft(identity, accumulator))
+				.requireNonNull(identity, "identity", accumulator, "accumulator")//
+				.processOperationWithResult(l -> l.foldLeft(identity, accumulator))//
 				.andMakeStackTraceUnderTheName("foldLeft")//
 				.getResultProccess();//
 	}
@@ -368,7 +394,7 @@ public final class List<A> implements //
 	@Override
 	public List<A> setFirstElement(final A firstElement) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(firstElement).isNonNull("firstElement"))//
+				.requireNonNull(firstElement, "firstElement")//
 				.processOperationWithResult(l -> l.setFirstElement(firstElement))//
 				.andMakeStackTraceUnderTheName("setFirstElement")
 
@@ -428,12 +454,7 @@ public final class List<A> implements //
 	@Override
 	public <B> Result<B> foldRight(final B identity, final Function<A, Function<B, B>> accumulator) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(identity)//
-						.isNonNull("identity")//
-						.andOtherObjectIsNotNull(accumulator, "accumulator")
-
-				)//
+				.requireNonNull(identity, "identity", accumulator, "accumulator")//
 				.processOperationWithResult(l -> l.foldRight(identity, accumulator))//
 				.andMakeStackTraceUnderTheName("foldRight")//
 				.getResultProccess();//
@@ -443,11 +464,8 @@ public final class List<A> implements //
 	@Override
 	public List<A> filter(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(predicate)//
-						.isNonNull("predicate")
-
-				).processOperationWithResult(l -> l.filter(predicate))//
+				.requireNonNull(predicate, "predicate")//
+				.processOperationWithResult(l -> l.filter(predicate))//
 				.andMakeStackTraceUnderTheName("filter")//
 				.mapTo(List::makeTypeSafe);
 	}
@@ -455,11 +473,8 @@ public final class List<A> implements //
 	@Override
 	public List<A> exclude(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(predicate)//
-						.isNonNull("predicate")
-
-				).processOperationWithResult(l -> l.exclude(predicate))//
+				.requireNonNull(predicate, "predicate")//
+				.processOperationWithResult(l -> l.exclude(predicate))//
 				.andMakeStackTraceUnderTheName("exclude")//
 				.mapTo(List::makeTypeSafe);
 	}
@@ -467,11 +482,8 @@ public final class List<A> implements //
 	@Override
 	public <B> List<B> map(final Function<A, B> elementTransformer) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(elementTransformer)//
-						.isNonNull("elementTransformer")
-
-				).processOperationWithResult(l -> l.map(elementTransformer))//
+				.requireNonNull(elementTransformer, "elementTransformer")//
+				.processOperationWithResult(l -> l.map(elementTransformer))//
 				.andMakeStackTraceUnderTheName("map")//
 				.mapTo(List::makeTypeSafe);
 	}
@@ -480,11 +492,7 @@ public final class List<A> implements //
 	public <B> List<B> combineNestedLists(final Function<A, List<B>> elementTransformer) {
 
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(elementTransformer)//
-						.isNonNull("elementTransformer")
-
-				)//
+				.requireNonNull(elementTransformer, "elementTransformer")//
 				.processOperationWithResult(l -> //
 				l.combineNestedLists(elementTransformer))//
 				.andMakeStackTraceUnderTheName("combineNestedLists")//
@@ -496,7 +504,7 @@ public final class List<A> implements //
 	// -------------------------------------------------------------------------------------
 	// Start advanced
 	public static ExtendedFactoryOperations extendedFactoryOperations() {
-		return new ExtendedFactoryOperations();
+		return new ExtendedFactoryOperations(SizePolicy::global);
 	}
 
 	public final static class ExtendedFactoryOperations
@@ -506,10 +514,34 @@ public final class List<A> implements //
 			ListBehavior.ExtendedFactoryOperationsHandler.MathFactory, //
 			ListBehavior.ExtendedFactoryOperationsHandler.TupleFactory {
 
+		// read on every call, so that the default factory follows SizePolicy.useGlobally
+		private final Supplier<SizePolicy> sizePolicy;
+
+		private ExtendedFactoryOperations(final Supplier<SizePolicy> sizePolicy) {
+			this.sizePolicy = sizePolicy;
+		}
+
+		/**
+		 * A factory that checks the lists it builds against {@code sizePolicy} instead
+		 * of {@link SizePolicy#global()}. Operations on those lists are still checked
+		 * against the global policy.
+		 */
+		public ExtendedFactoryOperations withLimits(final SizePolicy sizePolicy) {
+			return new ExtendedFactoryOperations(() -> sizePolicy);
+		}
+
+		private SizePolicy sizePolicy() {
+			return sizePolicy.get();
+		}
+
 		private <T> PreconditionStage<dev.ofekmalka.core.data_structure.list.List.ListImp.StaticMethod> verifyingSupplierPreconditionsForStaticMethod(
 				final Supplier<Condition<T>> supplier) {//
 			return PreconditionedProcess//
-					.fromValue(List.ListImp.staticMethod())//
+					.from(If.givenObject(sizePolicy())//
+							.isNonNull("sizePolicy")//
+							.will()//
+							.returnValue(List.ListImp::staticMethod)//
+							.getResult())//
 					.checkCondition(supplier);//
 
 		}
@@ -639,21 +671,75 @@ public final class List<A> implements //
 					.mapTo(List::makeTypeSafe);//
 		}
 
-		@SuppressWarnings("unchecked")
 		@Override
 		public <A> List<A> createFromCollection(final Collection<A> collection) {
 
+			return verifyingSupplierPreconditionsForStaticMethod(() -> //
+			If.givenObject(collection).isNonNull("collection")//
+					.andIs(c -> sizePolicy().allows(c.size()), sizePolicy().exceededMessage()))//
+					// nulls are reported under the list(...) and map frames they have always had
+					.processOperationWithResult(l -> l.fromCollection(collection)//
+							.prependMethodNameToFailureMessage("list")//
+							.prependMethodNameToFailureMessage("map"))//
+					.andMakeStackTraceUnderTheName("createFromCollection")//
+					.mapTo(List::makeTypeSafe);//
+
+		}
+
+		@Override
+		public <A> List<A> createIndexedFromCollection(final Collection<A> collection) {
+
 			return verifyingSupplierPreconditionsForStaticMethod(() -> //
 			If.givenObject(collection).isNonNull("collection"))//
-					.processOperationBySupplierResult(() -> If.givenObject(collection)//
-							.is(Collection::isEmpty)//
-							.will()//
+					.processOperationBySupplierResult(() -> createFromCollection(collection).source//
+							.map(l -> ListImp.staticMethod().indexedCopyOf(l)))
 
-							.<Result<ListImp<A>>>returnValue(ListImp::emptyResultList)//
-							.orGet(() -> List.list(collection.toArray()).map(o -> (A) o).source)//
-					)
+					.andMakeStackTraceUnderTheName("createIndexedFromCollection")//
+					.mapTo(List::makeTypeSafe);//
 
-					.andMakeStackTraceUnderTheName("createFromCollection")//
+		}
+
+		@Override
+		public <A> List<A> createIndexedCopyOf(final List<A> list) {
+			final var errorProcessingMessage = CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST
+					.withArgumentName("list").getMessage();
+
+			return verifyingSupplierPreconditionsForStaticMethod(() -> //
+			If.givenObject(list)//
+					.isNonNull("list")//
+					.andIs(List::isProcessSuccess, errorProcessingMessage))//
+					.processOperation(l -> l.indexedCopyOf(list.getListImpSource()))//
+					.andMakeStackTraceUnderTheName("createIndexedCopyOf")//
+					.mapTo(List::makeTypeSafe);//
+
+		}
+
+		@Override
+		public <A> List<A> createCompactCopyOf(final List<A> list) {
+			final var errorProcessingMessage = CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST
+					.withArgumentName("list").getMessage();
+
+			return verifyingSupplierPreconditionsForStaticMethod(() -> //
+			If.givenObject(list)//
+					.isNonNull("list")//
+					.andIs(List::isProcessSuccess, errorProcessingMessage))//
+					.processOperation(l -> l.compactCopyOf(list.getListImpSource()))//
+					.andMakeStackTraceUnderTheName("createCompactCopyOf")//
+					.mapTo(List::makeTypeSafe);//
+
+		}
+
+		@Override
+		public <A> List<A> createInternedCopyOf(final List<A> list) {
+			final var errorProcessingMessage = CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST
+					.withArgumentName("list").getMessage();
+
+			return verifyingSupplierPreconditionsForStaticMethod(() -> //
+			If.givenObject(list)//
+					.isNonNull("list")//
+					.andIs(List::isProcessSuccess, errorProcessingMessage))//
+					.processOperation(l -> l.internedCopyOf(list.getListImpSource()))//
+					.andMakeStackTraceUnderTheName("createInternedCopyOf")//
 					.mapTo(List::makeTypeSafe);//
 
 		}
@@ -664,12 +750,8 @@ public final class List<A> implements //
 			If.givenObject(stream)//
 					.isNonNull("stream")//
 			)//
-					.processOperation(l -> {
-						final var list = stream.filter(Objects::nonNull)
-
-								.limit(Errors.Constants.MAX_LIST_SIZE).toList();
-						return l.fromCollection(list);
-					})//
+					.processOperation(l -> l.fromJavaStreamUtil(stream.filter(Objects::nonNull)//
+							.limit(sizePolicy().maxElements())))//
 					.andMakeStackTraceUnderTheName("createFromStreamAndRemoveNullsValues")//
 					.mapTo(List::makeTypeSafe);//
 
@@ -687,9 +769,8 @@ public final class List<A> implements //
 							Errors.CastumArgumentMessage//
 									.ERROR_NON_POSITIVE_VALUE//
 									.withArgumentName("iterations").getMessage())//
-					.andSupplierIs(() -> iterations <= Errors.Constants.MAX_LIST_SIZE, //
-							Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED//
-									.getMessage()))//
+					.andSupplierIs(() -> sizePolicy().allows(iterations), //
+							sizePolicy().exceededMessage()))//
 					.processOperationWithResult(l -> l.iterate(seed, transformationFunction, iterations))//
 					.andMakeStackTraceUnderTheName("iterateWithSeed")//
 					.mapTo(List::makeTypeSafe);//
@@ -698,16 +779,11 @@ public final class List<A> implements //
 		@Override
 		public List<Integer> generateRange(final int startInclusive, final int endExclusive) {
 
-			final var preconditionsForRangeMethod = If.isItTrue(startInclusive < endExclusive//
+			return verifyingSupplierPreconditionsForStaticMethod(() -> If.isItTrue(startInclusive < endExclusive//
 					, GeneralMessage.ERROR_INVALID_START_END_RANGE.getMessage())//
-					// Using start and end in DoubleUtil to prevent unexpected behavior during
-					// subtraction of two integers
-					.andSupplierIs(() -> //
-					Math.abs(endExclusive - startInclusive)//
-							<= Errors.Constants.MAX_LIST_SIZE//
-							, GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage());//
-
-			return verifyingSupplierPreconditionsForStaticMethod(() -> preconditionsForRangeMethod)//
+					// a long, to prevent unexpected behavior during subtraction of two integers
+					.andSupplierIs(() -> sizePolicy().allows((long) endExclusive - startInclusive)//
+							, sizePolicy().exceededMessage()))//
 					.processOperation(l -> l.generateRange(startInclusive, endExclusive))//
 					.andMakeStackTraceUnderTheName("generateRange")//
 					.mapTo(List::makeTypeSafe);
@@ -739,7 +815,7 @@ public final class List<A> implements //
 												.<ListImp<A>>mapFailureForOtherObject())
 										.orGet(() -> l.unfold(initialSeed, //
 
-												generator))
+												generator, sizePolicy()))
 
 							;
 							}//
@@ -798,8 +874,8 @@ public final class List<A> implements //
 					.is(i -> i > 0,
 							Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE
 									.withArgumentName("numberOfElements").getMessage())
-					.andIs(iu -> iu <= Errors.Constants.MAX_LIST_SIZE, //
-							Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage())//
+					.andIs(iu -> sizePolicy().allows(iu), //
+							sizePolicy().exceededMessage())//
 
 					.andOtherObjectIsNotNull(elementSupplier, "elementSupplier"))//
 					.processOperationWithResult(l -> l.fill(numberOfElements, elementSupplier))//
@@ -843,6 +919,493 @@ public final class List<A> implements //
 		return new Convertor(this);
 	}
 
+	/**
+	 * Records {@code map}, {@code filter}, {@code exclude}, {@code takeWhile} and
+	 * {@code zipWithPosition} calls and runs them in one traversal with a single
+	 * output build when {@link Pipeline#toList()} is called.
+	 */
+	public Pipeline<A> pipeline() {
+		return new Pipeline<>(this, null, null);
+	}
+
+	/**
+	 * A recorded chain of intermediate operations over a source {@link List}.
+	 * <p>
+	 * {@link #toList()} yields exactly what the same chain of eager calls yields.
+	 * Every element runs through all the stages before the next one starts, and
+	 * only the surviving elements are buffered. The stages that the eager chain
+	 * would still apply after a {@code takeWhile} cut or after a failure keep
+	 * running on the remaining elements, because a failure there fails the eager
+	 * chain too. When anything fails, the chain is replayed eagerly so that the
+	 * failure message names the same methods.
+	 */
+	public final static class Pipeline<A> {
+
+		// marks the element that a takeWhile stage cuts the traversal at
+		private static final Object CUT = new Object();
+
+		@FunctionalInterface
+		private interface Step {
+			/**
+			 * @return the element to pass on, {@link ListImp#SKIPPED}, {@link #CUT} or
+			 *         {@code null} on failure
+			 */
+			Object apply(Object element, int position);
+		}
+
+		private final List<?> origin;
+		private final Pipeline<?> previous;
+		private final Stage stage;
+
+		private record Stage(boolean hasValidArgument, Step step,
+				java.util.function.UnaryOperator<List<Object>> eagerOperation) {
+		}
+
+		private Pipeline(final List<?> origin, final Pipeline<?> previous, final Stage stage) {
+			this.origin = origin;
+			this.previous = previous;
+			this.stage = stage;
+		}
+
+		private <B> Pipeline<B> then(final boolean hasValidArgument, final Step step,
+				final java.util.function.UnaryOperator<List<Object>> eagerOperation) {
+			return new Pipeline<>(origin, this, new Stage(hasValidArgument, step, eagerOperation));
+		}
+
+		@SuppressWarnings("unchecked")
+		public <B> Pipeline<B> map(final Function<A, B> elementTransformer) {
+			return then(Objects.nonNull(elementTransformer), //
+					(element, position) -> elementTransformer.apply((A) element), //
+					list -> ((List<A>) (List<?>) list).map(elementTransformer).castToObjects());
+		}
+
+		@SuppressWarnings("unchecked")
+		public Pipeline<A> filter(final Predicate<A> predicate) {
+			return then(Objects.nonNull(predicate), //
+					(element, position) -> keepWhen(predicate.apply((A) element), element, TRUE), //
+					list -> ((List<A>) (List<?>) list).filter(predicate).castToObjects());
+		}
+
+		@SuppressWarnings("unchecked")
+		public Pipeline<A> exclude(final Predicate<A> predicate) {
+			return then(Objects.nonNull(predicate), //
+					(element, position) -> keepWhen(predicate.apply((A) element), element, FALSE), //
+					list -> ((List<A>) (List<?>) list).exclude(predicate).castToObjects());
+		}
+
+		@SuppressWarnings("unchecked")
+		public Pipeline<A> takeWhile(final Predicate<A> predicate) {
+			return then(Objects.nonNull(predicate), //
+					(element, position) -> {
+						final var keep = predicate.apply((A) element);
+						if (keep == null)
+							return null;
+						return keep ? element : CUT;
+					}, //
+					list -> ((List<A>) (List<?>) list).takeWhile(predicate).castToObjects());
+		}
+
+		@SuppressWarnings("unchecked")
+		public Pipeline<Tuple2<A, Integer>> zipWithPosition() {
+			return then(TRUE, //
+					(element, position) -> Tuple2.of((A) element, position).getResult().successValue(), //
+					list -> ((List<A>) (List<?>) list).zipWithPosition().castToObjects());
+		}
+
+		private static Object keepWhen(final Boolean matches, final Object element, final Boolean expected) {
+			if (matches == null)
+				return null;
+			return matches.equals(expected) ? element : ListImp.SKIPPED;
+		}
+
+		public List<A> toList() {
+			final var stages = stages();
+
+			final var allArgumentsValid = java.util.Arrays.stream(stages).allMatch(Stage::hasValidArgument);
+			if (origin.isNotSuccess() || !allArgumentsValid)
+				return replayEagerly(stages);
+
+			final var fused = Pipeline.<A>runFused(stages, origin.getListImpSource());
+			return fused.isSuccess() //
+					? makeTypeSafe(fused.successValue())//
+					: replayEagerly(stages);
+		}
+
+		private Stage[] stages() {
+			var length = 0;
+			for (Pipeline<?> current = this; Objects.nonNull(current.stage); current = current.previous)
+				length++;
+
+			final var stages = new Stage[length];
+			var current = (Pipeline<?>) this;
+			for (var i = length - 1; i >= 0; i--, current = current.previous)
+				stages[i] = current.stage;
+			return stages;
+		}
+
+		private static <B> Result<ListImp<B>> runFused(final Stage[] stages, final ListImp<?> source) {
+			final var buffer = new Object[source.size()];
+			final var positions = new int[stages.length];
+			var count = 0;
+			// after a cut only the stages in front of it still receive elements
+			var activeStages = stages.length;
+
+			try {
+				for (ListImp<?> current = source; !current.isEmpty()
+						&& activeStages > 0; current = current.restElements()) {
+					Object element = current.firstElement();
+					var stageIndex = 0;
+					for (; stageIndex < activeStages; stageIndex++) {
+						element = stages[stageIndex].step().apply(element, positions[stageIndex]++);
+						if (element == null)
+							return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+						if (element == ListImp.SKIPPED)
+							break;
+						if (element == CUT) {
+							activeStages = stageIndex;
+							break;
+						}
+					}
+					if (stageIndex == stages.length)
+						buffer[count++] = element;
+				}
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+
+			return Result.success(ListImp.fromBuffer(buffer, count));
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<A> replayEagerly(final Stage[] stages) {
+			var list = (List<Object>) origin;
+			for (final Stage current : stages)
+				list = current.eagerOperation().apply(list);
+			return (List<A>) (List<?>) list;
+		}
+	}
+
+	public Parallel<A> parallel() {
+		return new Parallel<>(this);
+	}
+
+	/**
+	 * Runs bulk operations of a source {@link List} over balanced chunks on the
+	 * common {@link java.util.concurrent.ForkJoinPool}, so the functions passed in
+	 * must be safe to call from several threads at once.
+	 * <p>
+	 * Every operation yields what the same sequential call yields, failures
+	 * included: the failure reported is the one on the element the sequential
+	 * call fails on, and the functions are never run a second time. Only
+	 * {@link #reduce(Function)} combines the elements in another order, so when it
+	 * fails it runs the sequential call instead to report the same failure.
+	 */
+	public final static class Parallel<A> {
+
+		private static final int MIN_CHUNK_SIZE = 1 << 10;
+
+		private static final int CONTINUE = 0;
+		private static final int DECISIVE = 1;
+
+		private static final ElementFailure NULL_RESULT = new ElementFailure(
+				CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+
+		@FunctionalInterface
+		private interface Work {
+			/**
+			 * @return {@link #CONTINUE}, or {@link #DECISIVE} when the element settles the
+			 *         answer
+			 * @throws ElementFailure with the message the sequential call fails with
+			 */
+			int run(int index) throws Exception;
+		}
+
+		// a failure on one element, without a stack trace
+		private static final class ElementFailure extends Exception {
+			private static final long serialVersionUID = 1L;
+
+			private ElementFailure(final String message) {
+				super(message, null, false, false);
+			}
+		}
+
+		private final List<A> origin;
+
+		private Parallel(final List<A> origin) {
+			this.origin = origin;
+		}
+
+		@SuppressWarnings("unchecked")
+		public <B> List<B> map(final Function<A, B> elementTransformer) {
+			if (origin.isNotSuccess() || Objects.isNull(elementTransformer))
+				return origin.map(elementTransformer);
+
+			final var elements = origin.elementsAsArray();
+			final var mapped = new Object[elements.length];
+			final var outcome = run(elements.length, index -> {
+				mapped[index] = elementTransformer.apply((A) elements[index]);
+				if (Objects.isNull(mapped[index]))
+					throw NULL_RESULT;
+				return CONTINUE;
+			});
+
+			return outcome.hasFailed() //
+					? outcome.<ListImp<B>>failureUnder("map").mapTo(List::makeTypeSafe)//
+					: makeTypeSafe(ListImp.<B>fromBuffer(mapped, mapped.length));
+		}
+
+		@SuppressWarnings("unchecked")
+		public List<A> filter(final Predicate<A> predicate) {
+			if (origin.isNotSuccess() || Objects.isNull(predicate))
+				return origin.filter(predicate);
+
+			final var elements = origin.elementsAsArray();
+			final var keep = new boolean[elements.length];
+			final var outcome = run(elements.length, index -> {
+				final var matches = predicate.apply((A) elements[index]);
+				if (Objects.isNull(matches))
+					throw NULL_RESULT;
+				keep[index] = matches;
+				return CONTINUE;
+			});
+
+			if (outcome.hasFailed())
+				return outcome.<ListImp<A>>failureUnder("filter").mapTo(List::makeTypeSafe);
+
+			var count = 0;
+			for (var i = 0; i < elements.length; i++)
+				if (keep[i])
+					elements[count++] = elements[i];
+			return makeTypeSafe(ListImp.<A>fromBuffer(elements, count));
+		}
+
+		/**
+		 * The sequential call tries the elements from the last one and stops at the
+		 * first failure, so the elements are handed out in that order here too.
+		 */
+		@SuppressWarnings("unchecked")
+		public <B> List<B> sequence(final Function<A, Result<B>> transformer) {
+			if (origin.isNotSuccess() || Objects.isNull(transformer))
+				return origin.sequence(transformer);
+
+			final var elements = origin.elementsAsArray();
+			final var values = new Object[elements.length];
+			final var last = elements.length - 1;
+			final var outcome = run(elements.length, position -> {
+				final var result = transformer.apply((A) elements[last - position]);
+				if (Objects.isNull(result))
+					throw NULL_RESULT;
+				if (result.isFailure())
+					throw new ElementFailure(result.failureValue().getMessage());
+				if (result.isEmpty())
+					throw new ElementFailure(CheckedOperation.ERROR_MESSAGE_EMPTY_RESULT.getMessage());
+				values[last - position] = result.successValue();
+				return CONTINUE;
+			});
+
+			return outcome.hasFailed() //
+					? outcome.<ListImp<B>>failureUnder("sequence").mapTo(List::makeTypeSafe)//
+					: makeTypeSafe(ListImp.<B>fromBuffer(values, values.length));
+		}
+
+		public Result<Boolean> anyMatch(final Predicate<A> predicate) {
+			return firstDecisiveMatch(predicate, TRUE, "anyMatch");
+		}
+
+		public Result<Boolean> allMatch(final Predicate<A> predicate) {
+			return firstDecisiveMatch(predicate, FALSE, "allMatch");
+		}
+
+		/**
+		 * Elements past the first one that matches {@code decisive} are skipped, and a
+		 * failure only counts when it comes before that element, as it does
+		 * sequentially.
+		 */
+		@SuppressWarnings("unchecked")
+		private Result<Boolean> firstDecisiveMatch(final Predicate<A> predicate, final Boolean decisive,
+				final String operation) {
+			if (origin.isNotSuccess() || Objects.isNull(predicate))
+				return decisive ? origin.anyMatch(predicate) : origin.allMatch(predicate);
+
+			final var elements = origin.elementsAsArray();
+			final var outcome = run(elements.length, index -> {
+				final var matches = predicate.apply((A) elements[index]);
+				if (Objects.isNull(matches))
+					throw NULL_RESULT;
+				return decisive.equals(matches) ? DECISIVE : CONTINUE;
+			});
+
+			if (outcome.hasFailed())
+				return outcome.<Boolean>failureUnder(operation).getResultProccess();
+			return Result.success(outcome.isDecided() ? decisive : !decisive);
+		}
+
+		/**
+		 * Reduces every chunk from left to right and then the chunk results in order,
+		 * so the result only matches the sequential one when
+		 * {@code elementTransformer} is associative. On a failure the sequential call
+		 * is run instead, since it may fail on another pair of elements.
+		 */
+		@SuppressWarnings("unchecked")
+		public Result<A> reduce(final Function<A, Function<A, A>> elementTransformer) {
+			if (origin.isNotSuccess() || Objects.isNull(elementTransformer) || origin.getListImpSource().isEmpty())
+				return origin.reduce(elementTransformer);
+
+			final var elements = origin.elementsAsArray();
+			final var chunkSize = chunkSize(elements.length);
+			final var partials = new Object[(elements.length + chunkSize - 1) / chunkSize];
+			final var outcome = run(partials.length, 1, chunk -> {
+				final var end = Math.min(elements.length, (chunk + 1) * chunkSize);
+				var partial = (A) elements[chunk * chunkSize];
+				for (var i = chunk * chunkSize + 1; i < end && Objects.nonNull(partial); i++)
+					partial = elementTransformer.apply(partial).apply((A) elements[i]);
+				partials[chunk] = partial;
+				if (Objects.isNull(partial))
+					throw NULL_RESULT;
+				return CONTINUE;
+			});
+
+			if (outcome.hasFailed())
+				return origin.reduce(elementTransformer);
+
+			try {
+				var result = (A) partials[0];
+				for (var i = 1; i < partials.length && Objects.nonNull(result); i++)
+					result = elementTransformer.apply(result).apply((A) partials[i]);
+				return Objects.isNull(result) ? origin.reduce(elementTransformer) : Result.success(result);
+			} catch (final Exception e) {
+				return origin.reduce(elementTransformer);
+			}
+		}
+
+		/**
+		 * Only the keys are computed in parallel, the groups are then built in order,
+		 * the same way {@link List#groupBy(Function)} builds them.
+		 */
+		@SuppressWarnings("unchecked")
+		public <B> Map<B, List<A>> groupBy(final Function<A, B> keyMapper) {
+			if (origin.isNotSuccess() || Objects.isNull(keyMapper))
+				return origin.groupBy(keyMapper);
+
+			final var elements = origin.elementsAsArray();
+			final var keys = new Object[elements.length];
+			final var outcome = run(elements.length, index -> {
+				keys[index] = keyMapper.apply((A) elements[index]);
+				if (Objects.isNull(keys[index]))
+					throw NULL_RESULT;
+				return CONTINUE;
+			});
+
+			if (outcome.hasFailed())
+				return outcome.<Map<B, List<A>>>failureUnder("groupBy")
+						.getOrConvertToFailureState(Map::makeFailureInstanceWithMessage);
+
+			final var grouped = Map.<B, List<A>>builder();
+			for (var i = 0; i < elements.length; i++) {
+				final var element = (A) elements[i];
+				grouped.update((B) keys[i], List.emptyList(), group -> group.cons(element));
+			}
+			return grouped.build();
+		}
+
+		private static int chunkSize(final int size) {
+			final var chunks = java.util.concurrent.ForkJoinPool.getCommonPoolParallelism() * 4;
+			return Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+		}
+
+		private static Outcome run(final int size, final Work work) {
+			return run(size, chunkSize(size), work);
+		}
+
+		private static Outcome run(final int size, final int chunkSize, final Work work) {
+			final var outcome = new Outcome();
+			java.util.concurrent.ForkJoinPool.commonPool().invoke(new Chunk(0, size, chunkSize, work, outcome));
+			return outcome;
+		}
+
+		private static final class Outcome {
+			private volatile int firstFailure = Integer.MAX_VALUE;
+			// the message of the failure at firstFailure
+			private String failureMessage;
+			private final java.util.concurrent.atomic.AtomicInteger firstDecisive = new java.util.concurrent.atomic.AtomicInteger(
+					Integer.MAX_VALUE);
+
+			private void decide(final int index) {
+				firstDecisive.accumulateAndGet(index, Math::min);
+			}
+
+			private synchronized void fail(final int index, final String message) {
+				if (index < firstFailure) {
+					firstFailure = index;
+					failureMessage = message;
+				}
+			}
+
+			// nothing after the first failure or decisive element can change the answer
+			private boolean isPast(final int index) {
+				return index > firstFailure || index > firstDecisive.get();
+			}
+
+			private boolean hasFailed() {
+				return firstFailure < firstDecisive.get();
+			}
+
+			private boolean isDecided() {
+				return firstDecisive.get() != Integer.MAX_VALUE;
+			}
+
+			// traced the way the sequential call traces it
+			private synchronized <T> PreconditionedProcess.ResultWrapper<T> failureUnder(final String operation) {
+				return PreconditionedProcess.ResultStage.<T>from(Result.failure(failureMessage))
+						.andMakeStackTraceUnderTheName(operation);
+			}
+		}
+
+		private static final class Chunk extends java.util.concurrent.RecursiveAction {
+			private static final long serialVersionUID = 1L;
+
+			private final int from;
+			private final int until;
+			private final int chunkSize;
+			private final transient Work work;
+			private final transient Outcome outcome;
+
+			private Chunk(final int from, final int until, final int chunkSize, final Work work,
+					final Outcome outcome) {
+				this.from = from;
+				this.until = until;
+				this.chunkSize = chunkSize;
+				this.work = work;
+				this.outcome = outcome;
+			}
+
+			@Override
+			protected void compute() {
+				if (until - from > chunkSize) {
+					final var middle = (from + until) >>> 1;
+					invokeAll(new Chunk(from, middle, chunkSize, work, outcome),
+							new Chunk(middle, until, chunkSize, work, outcome));
+					return;
+				}
+
+				for (var index = from; index < until && !outcome.isPast(index); index++)
+					try {
+						if (work.run(index) == DECISIVE)
+							outcome.decide(index);
+					} catch (final ElementFailure e) {
+						outcome.fail(index, e.getMessage());
+					} catch (final Exception e) {
+						outcome.fail(index, CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+					}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> castToObjects() {
+		return (List<Object>) this;
+	}
+
 	public class Convertor implements ListBehavior.Operations.Conversion<A> {
 		List<A> list;
 
@@ -890,6 +1453,31 @@ public final class List<A> implements //
 							::makeFailureInstanceWithMessage);//
 		}
 
+		/**
+		 * An {@code ORDERED}, {@code SIZED}, {@code IMMUTABLE} and {@code NONNULL}
+		 * spliterator over the elements in place. An indexed list splits in halves,
+		 * any other list hands off batches of its first elements.
+		 */
+		@Override
+		public Result<java.util.Spliterator<A>> toSpliterator() {
+			return from(source)//
+					.processOperation(ListImp::spliterator)//
+					.andMakeStackTraceUnderTheName("toSpliterator")//
+					.getResultProccess();
+		}
+
+		/**
+		 * A {@link java.util.stream.Stream} over {@link #toSpliterator()}, so JDK
+		 * collectors and parallel streams read the list without copying it first.
+		 */
+		@Override
+		public Result<java.util.stream.Stream<A>> toJavaStream() {
+			return from(source)//
+					.processOperation(l -> java.util.stream.StreamSupport.stream(l.spliterator(), false))//
+					.andMakeStackTraceUnderTheName("toJavaStream")//
+					.getResultProccess();
+		}
+
 	}
 
 	/// ===============================================
@@ -928,41 +1516,270 @@ public final class List<A> implements //
 	@Override
 	public List<A> shuffle() {
 		return from(source)//
-				.processOperation(ListImp::shuffle)//
+				.processOperation(l -> l.shuffle(java.util.concurrent.ThreadLocalRandom.current()))//
 				.andMakeStackTraceUnderTheName("shuffle")//
 				.mapTo(List::makeTypeSafe);//
 	}
 
+	/**
+	 * Shuffles with the given generator, so that a seeded one, such as
+	 * {@code RandomGeneratorFactory.of("L64X128MixRandom").create(seed)}, always
+	 * gives the same order.
+	 */
 	@Override
-	public List<Tuple2<A, Integer>> zipWithPosition() {
+	public List<A> shuffle(final RandomGenerator randomGenerator) {
 		return from(source)//
-				.processOperation(ListImp::zipWithPosition)//
-				.andMakeStackTraceUnderTheName("zipWithPosition")//
-				.mapTo(List::makeTypeSafe);
-
+				.requireNonNull(randomGenerator, "randomGenerator")//
+				.processOperation(l -> l.shuffle(randomGenerator))//
+				.andMakeStackTraceUnderTheName("shuffle")//
+				.mapTo(List::makeTypeSafe);//
 	}
 
-///////////////////////////////////////////////////
-//all args operations
-///////////////////////////////////////////////////
-
-
+	@Override
+	public List<A> sample(final int k) {
+		return sample(k, java.util.concurrent.ThreadLocalRandom.current());
+	}
 
+	/**
+	 * Picks {@code k} elements at random without replacement, or every element in
+	 * a random order when the list is shorter.
+	 */
 	@Override
-	public List<A> takeAtMost(final int n) {
+	public List<A> sample(final int k, final RandomGenerator randomGenerator) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(n)//
+				.checkCondition(() -> If.givenObject(k)//
 						.is(i -> i > 0,
-								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("n")
-										.getMessage()))//
-				.processOperation(l -> l.takeAtMost(n))//
-				.andMakeStackTraceUnderTheName("takeAtMost")//
-				.mapTo(List::makeTypeSafe);
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("k")
+										.getMessage())//
+						.andOtherObjectIsNotNull(randomGenerator, "randomGenerator"))//
+				.processOperation(l -> l.sample(k, randomGenerator))//
+				.andMakeStackTraceUnderTheName("sample")//
+				.mapTo(List::makeTypeSafe);//
 	}
 
 	@Override
-	public List<A> dropAtMost(final int n) {
-		return from(source)//
+	public List<A> weightedSample(final int k, final Function<A, Double> weight) {
+		return weightedSample(k, weight, java.util.concurrent.ThreadLocalRandom.current());
+	}
+
+	/**
+	 * Like {@link #sample(int, RandomGenerator)}, but an element is picked in
+	 * proportion to its weight, which must be positive and finite.
+	 */
+	@Override
+	public List<A> weightedSample(final int k, final Function<A, Double> weight,
+			final RandomGenerator randomGenerator) {
+		return from(source)//
+				.checkCondition(() -> If.givenObject(k)//
+						.is(i -> i > 0,
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("k")
+										.getMessage())//
+						.andOtherObjectIsNotNull(weight, "weight")//
+						.andOtherObjectIsNotNull(randomGenerator, "randomGenerator"))//
+				.processOperationWithResult(l -> l.weightedSample(k, weight, randomGenerator))//
+				.andMakeStackTraceUnderTheName("weightedSample")//
+				.mapTo(List::makeTypeSafe);//
+	}
+
+	@Override
+	public List<Tuple2<A, Integer>> zipWithPosition() {
+		return from(source)//
+				.processOperation(ListImp::zipWithPosition)//
+				.andMakeStackTraceUnderTheName("zipWithPosition")//
+				.mapTo(List::makeTypeSafe);
+
+	}
+
+	/**
+	 * Every subset of the distinct elements as a lazy stream; a subset is only
+	 * built when it is read, so a bounded prefix of a large family stays cheap.
+	 */
+	@Override
+	public dev.ofekmalka.tools.stream.Stream<List<A>> powerSet() {
+		return from(source)//
+				.processOperation(ListImp::powerSet)//
+				.andMakeStackTraceUnderTheName("powerSet")//
+				.getOrConvertToFailureState(dev.ofekmalka.tools.stream.Stream::makeFailureInstanceWithMessage);
+	}
+
+	@Override
+	public dev.ofekmalka.tools.stream.Stream<List<A>> combinations(final int k) {
+		return from(source)//
+				.checkCondition(() -> If.givenObject(k)//
+						.is(i -> i > 0,
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("k")
+										.getMessage()))//
+				.processOperation(l -> l.combinations(k))//
+				.andMakeStackTraceUnderTheName("combinations")//
+				.getOrConvertToFailureState(dev.ofekmalka.tools.stream.Stream::makeFailureInstanceWithMessage);
+	}
+
+	@Override
+	public dev.ofekmalka.tools.stream.Stream<List<A>> permutations() {
+		return from(source)//
+				.processOperation(ListImp::permutations)//
+				.andMakeStackTraceUnderTheName("permutations")//
+				.getOrConvertToFailureState(dev.ofekmalka.tools.stream.Stream::makeFailureInstanceWithMessage);
+	}
+
+	@Override
+	public <B> dev.ofekmalka.tools.stream.Stream<Tuple2<A, B>> cartesianProduct(final List<B> joinedList) {
+
+		final var errorProcessingMessage = CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST
+				.withArgumentName("joinedList")//
+				.getMessage();
+
+		return from(source)//
+				.checkCondition(() -> If.givenObject(joinedList).isNonNull("joinedList").andIs(List::isProcessSuccess,
+						errorProcessingMessage))
+				.processOperation(l -> l.cartesianProduct(joinedList.getListImpSource()))//
+				.andMakeStackTraceUnderTheName("cartesianProduct")//
+				.getOrConvertToFailureState(dev.ofekmalka.tools.stream.Stream::makeFailureInstanceWithMessage);
+	}
+
+	/**
+	 * A stable sort: elements the comparator ranks equal keep their order. The
+	 * elements are copied into one array, merge sorted there and linked back, so
+	 * it costs O(n log n) comparisons and no intermediate lists.
+	 */
+	@Override
+	public List<A> sortBy(final Comparator<A> comparator) {
+		return from(source)//
+				.requireNonNull(comparator, "comparator")//
+				.processOperationWithResult(l -> l.sortBy(comparator))//
+				.andMakeStackTraceUnderTheName("sortBy")//
+				.mapTo(List::makeTypeSafe);
+	}
+
+	/**
+	 * Like {@link #sortBy(Comparator)} on the natural order of a key; the key of
+	 * every element is extracted once, not once per comparison.
+	 */
+	@Override
+	public <B extends Comparable<? super B>> List<A> sortWith(final Function<A, B> keyExtractor) {
+		return from(source)//
+				.requireNonNull(keyExtractor, "keyExtractor")//
+				.processOperationWithResult(l -> l.sortWith(keyExtractor))//
+				.andMakeStackTraceUnderTheName("sortWith")//
+				.mapTo(List::makeTypeSafe);
+	}
+
+	/**
+	 * The first {@code k} elements of {@code sortBy(comparator)}, found with a
+	 * heap of {@code k} elements in O(n log k) instead of sorting the whole list.
+	 */
+	@Override
+	public List<A> topK(final int k, final Comparator<A> comparator) {
+		return from(source)//
+				.checkCondition(() -> If.givenObject(k)//
+						.is(i -> i > 0,
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("k")
+										.getMessage())//
+						.andOtherObjectIsNotNull(comparator, "comparator"))//
+				.processOperationWithResult(l -> l.topK(k, comparator))//
+				.andMakeStackTraceUnderTheName("topK")//
+				.mapTo(List::makeTypeSafe);
+	}
+
+	/**
+	 * The first of the smallest elements.
+	 */
+	@Override
+	public Result<A> minBy(final Comparator<A> comparator) {
+		return from(source)//
+				.requireNonNull(comparator, "comparator")//
+				.processOperationWithResult(l -> l.minBy(comparator))//
+				.andMakeStackTraceUnderTheName("minBy")//
+				.getResultProccess();
+	}
+
+	/**
+	 * The first of the largest elements.
+	 */
+	@Override
+	public Result<A> maxBy(final Comparator<A> comparator) {
+		return from(source)//
+				.requireNonNull(comparator, "comparator")//
+				.processOperationWithResult(l -> l.maxBy(comparator))//
+				.andMakeStackTraceUnderTheName("maxBy")//
+				.getResultProccess();
+	}
+
+	/**
+	 * The elements in consecutive groups of {@code n}, the last one holding what
+	 * is left over. The list is walked once and the last group shares the end of
+	 * it rather than copying it, where going through
+	 * {@code toStream().windowFixedAtMost(...)} walks a lazy list per group.
+	 */
+	@Override
+	public List<List<A>> grouped(final int n) {
+		return from(source)//
+				.checkCondition(() -> If.givenObject(n)//
+						.is(i -> i > 0,
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("n")
+										.getMessage()))//
+				.processOperation(l -> l.sliding(n, n))//
+				.andMakeStackTraceUnderTheName("grouped")//
+				.mapTo(List::makeTypeSafe);
+	}
+
+	/**
+	 * Windows of {@code n} elements starting every {@code step} elements, up to the
+	 * first window that reaches the end of the list, which may be shorter and
+	 * shares the end of the list. With a step of one this is
+	 * {@code toStream().windowSliding(...)}; with a step larger than {@code n} the
+	 * elements between the windows are skipped.
+	 */
+	@Override
+	public List<List<A>> sliding(final int n, final int step) {
+		return from(source)//
+				.checkCondition(() -> If.givenObject(n)//
+						.is(i -> i > 0,
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("n")
+										.getMessage())//
+						.andSupplierIs(() -> step > 0,
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("step")
+										.getMessage()))//
+				.processOperation(l -> l.sliding(n, step))//
+				.andMakeStackTraceUnderTheName("sliding")//
+				.mapTo(List::makeTypeSafe);
+	}
+
+	/**
+	 * Starts a new group at every element the predicate matches, except the first
+	 * element, which always starts one, so that no group is empty. The predicate
+	 * is applied once per element, and the last group shares the end of the list.
+	 */
+	@Override
+	public List<List<A>> splitEvery(final Predicate<A> predicate) {
+		return from(source)//
+				.requireNonNull(predicate, "predicate")//
+				.processOperationWithResult(l -> l.splitEvery(predicate))//
+				.andMakeStackTraceUnderTheName("splitEvery")//
+				.mapTo(List::makeTypeSafe);
+	}
+
+///////////////////////////////////////////////////
+//all args operations
+///////////////////////////////////////////////////
+
+
+
+	@Override
+	public List<A> takeAtMost(final int n) {
+		return from(source)//
+				.checkCondition(() -> If.givenObject(n)//
+						.is(i -> i > 0,
+								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("n")
+										.getMessage()))//
+				.processOperation(l -> l.takeAtMost(n))//
+				.andMakeStackTraceUnderTheName("takeAtMost")//
+				.mapTo(List::makeTypeSafe);
+	}
+
+	@Override
+	public List<A> dropAtMost(final int n) {
+		return from(source)//
 				.checkCondition(() -> If.givenObject(n)//
 						.is(i -> i > 0,
 								Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("n")
@@ -1093,8 +1910,8 @@ public final class List<A> implements //
 		return from(source)//
 				.checkCondition(() ->
 
-				If.givenObject(targetLength).isNot(iu -> iu > Errors.Constants.MAX_LIST_SIZE, //
-						Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage()).andIsNot(i -> i < 0, //
+				If.givenObject(targetLength).is(iu -> SizePolicy.global().allows(iu), //
+						SizePolicy.global().exceededMessage()).andIsNot(i -> i < 0, //
 								Errors.CastumArgumentMessage.ERROR_NEGATIVE_VALUE.withArgumentName("targetLength")
 										.getMessage()))
 				.processOperation(l -> l.paddingRightWithEmptyResult(targetLength))//
@@ -1108,8 +1925,8 @@ public final class List<A> implements //
 		return from(source)//
 				.checkCondition(() ->
 
-				If.givenObject(targetLength).isNot(iu -> iu > Errors.Constants.MAX_LIST_SIZE, //
-						Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage()).andIsNot(i -> i < 0, //
+				If.givenObject(targetLength).is(iu -> SizePolicy.global().allows(iu), //
+						SizePolicy.global().exceededMessage()).andIsNot(i -> i < 0, //
 								Errors.CastumArgumentMessage.ERROR_NEGATIVE_VALUE.withArgumentName("targetLength")
 										.getMessage()))
 				.processOperation(l -> l.paddingLeftWithEmptyResult(targetLength))//
@@ -1120,9 +1937,7 @@ public final class List<A> implements //
 	@Override
 	public List<A> takeWhile(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() ->
-
-				If.givenObject(predicate).isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 				.processOperationWithResult(l -> l.takeWhile(predicate))//
 				.andMakeStackTraceUnderTheName("takeWhile")//
 				.mapTo(List::makeTypeSafe);//
@@ -1132,9 +1947,7 @@ public final class List<A> implements //
 	@Override
 	public List<A> dropWhile(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() ->
-
-				If.givenObject(predicate).isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 				.processOperationWithResult(l -> l.dropWhile(predicate))//
 				.andMakeStackTraceUnderTheName("dropWhile")//
 				.mapTo(List::makeTypeSafe);//
@@ -1144,9 +1957,7 @@ public final class List<A> implements //
 	@Override
 	public List<A> takeRightWhile(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() ->
-
-				If.givenObject(predicate).isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 				.processOperationWithResult(l -> l.takeRightWhile(predicate))//
 				.andMakeStackTraceUnderTheName("takeRightWhile")//
 				.mapTo(List::makeTypeSafe);//
@@ -1155,9 +1966,7 @@ public final class List<A> implements //
 	@Override
 	public List<A> dropRightWhile(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() ->
-
-				If.givenObject(predicate).isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 				.processOperationWithResult(l -> l.dropRightWhile(predicate))//
 				.andMakeStackTraceUnderTheName("dropRightWhile")//
 				.mapTo(List::makeTypeSafe);//
@@ -1224,7 +2033,7 @@ public final class List<A> implements //
 	public Result<Integer> indexOf(final A element) {
 		return PreconditionedProcess//
 				.from(source)//
-				.checkCondition(() -> If.givenObject(element).isNonNull("element"))//
+				.requireNonNull(element, "element")//
 				.processOperationWithResult(l ->
 
 				If.givenObject(l)//
@@ -1246,7 +2055,7 @@ public final class List<A> implements //
 	public Result<Integer> indexWhere(final Predicate<A> predicate) {
 		return PreconditionedProcess//
 				.from(source)//
-				.checkCondition(() -> If.givenObject(predicate).isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 				.processOperationWithResult(l -> l.indexWhere(predicate))//
 				.andMakeStackTraceUnderTheName("indexWhere")//
 				.getResultProccess();//
@@ -1256,7 +2065,7 @@ public final class List<A> implements //
 	public Result<A> first(final Predicate<A> predicate) {
 		return PreconditionedProcess//
 				.from(source)//
-				.checkCondition(() -> If.givenObject(predicate).isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 				.processOperationWithResult(l -> l.first(predicate))//
 				.andMakeStackTraceUnderTheName("first")//
 				.getResultProccess();//
@@ -1313,10 +2122,8 @@ public final class List<A> implements //
 						.andIs(List::isProcessSuccess, errorProcessingMessage)
 						// Using start and end in DoubleUtil to prevent unexpected behavior during
 						// addition of two integers
-						.andIs(jl -> //
-						l.size() + jl.size().successValue()//
-								<= Errors.Constants.MAX_LIST_SIZE//
-								, GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage()))
+						.andIs(jl -> SizePolicy.global().allows((long) l.size() + jl.size().successValue()), //
+								SizePolicy.global().exceededMessage()))
 
 				//
 				.processOperation(l -> l.add(joinedList.getListImpSource()))//
@@ -1328,9 +2135,8 @@ public final class List<A> implements //
 	@Override
 	public Result<Boolean> contains(final A element) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(element)//
-						.isNonNull("element")//
-				).processOperation(l -> l.contains(element))//
+				.requireNonNull(element, "element")//
+				.processOperation(l -> l.contains(element))//
 				.andMakeStackTraceUnderTheName("contains")//
 				.getResultProccess();
 	}
@@ -1352,8 +2158,7 @@ public final class List<A> implements //
 	@Override
 	public Result<Boolean> allEqualTo(final A element) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(element)//
-						.isNonNull("element"))
+				.requireNonNull(element, "element")
 				.processOperation(l -> l.allEqualTo(element))//
 				.andMakeStackTraceUnderTheName("allEqualTo")//
 				.getResultProccess();
@@ -1362,8 +2167,7 @@ public final class List<A> implements //
 	@Override
 	public Result<Boolean> anyMatch(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(predicate)//
-						.isNonNull("predicate"))
+				.requireNonNull(predicate, "predicate")
 				.processOperationWithResult(l -> l.anyMatch(predicate))//
 				.andMakeStackTraceUnderTheName("anyMatch")//
 				.getResultProccess();
@@ -1372,8 +2176,7 @@ public final class List<A> implements //
 	@Override
 	public Result<Boolean> allMatch(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(predicate)//
-						.isNonNull("predicate"))
+				.requireNonNull(predicate, "predicate")
 				.processOperationWithResult(l -> l.allMatch(predicate))//
 				.andMakeStackTraceUnderTheName("allMatch")//
 				.getResultProccess();
@@ -1382,8 +2185,7 @@ public final class List<A> implements //
 	@Override
 	public Result<Boolean> noneMatch(final Predicate<A> predicate) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(predicate)//
-						.isNonNull("predicate"))
+				.requireNonNull(predicate, "predicate")
 				.processOperationWithResult(l -> l.n1Match(predicate))//
 				.andMakeStackTraceUnderTheName("noneMatch")//
 				.getResultProccess();
@@ -1392,8 +2194,7 @@ public final class List<A> implements //
 	@Override
 	public Result<String> mkStr(final String sep) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(sep)//
-						.isNonNull("sep"))
+				.requireNonNull(sep, "sep")
 				.processOperation(l -> l.mkStr(sep))//
 				.andMakeStackTraceUnderTheName("mkStr")//
 				.getResultProccess();
@@ -1403,8 +2204,7 @@ public final class List<A> implements //
 	public <B> Map<B, List<A>> groupBy(final Function<A, B> keyMapper) {
 
 		return from(source)//
-				.checkCondition(() -> If.givenObject(keyMapper)//
-						.isNonNull("keyMapper"))
+				.requireNonNull(keyMapper, "keyMapper")
 
 				.processOperationWithResult(l -> l.advancedGroupBy(keyMapper)//
 
@@ -1419,7 +2219,8 @@ public final class List<A> implements //
 	public <B> Map<A, B> groupByZippingValuesAsPossible(final List<B> joinedList) {
 		return PreconditionedProcess.fromValidatedSupplier(//
 				() -> this.zipAsPossible(joinedList)//
-						.foldLeft(Map.<A, B>emptyMap(), acc -> element -> acc.add(element.state(), element.value())))
+						.foldLeft(Map.<A, B>builder(), builder -> element -> builder.put(element.state(), element.value()))
+						.map(Map.Builder::build))
 				.andMakeStackTraceUnderTheName("groupByZippingValuesAsPossible")
 
 				.getOrConvertToFailureState(Map::makeFailureInstanceWithMessage);
@@ -1437,10 +2238,8 @@ public final class List<A> implements //
 						.andIs(List::isProcessSuccess, errorProcessingMessage)
 						// Using start and end in DoubleUtil to prevent unexpected behavior during
 						// addition of two integers
-						.andIs(j -> //
-						l.size() + j.size().successValue()//
-								<= Errors.Constants.MAX_LIST_SIZE//
-								, GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage()))
+						.andIs(j -> SizePolicy.global().allows((long) l.size() + j.size().successValue()), //
+								SizePolicy.global().exceededMessage()))
 
 				//
 				.processOperation(l -> l.cons(joinedList.getListImpSource()))//
@@ -1451,9 +2250,7 @@ public final class List<A> implements //
 	@Override
 	public <B> List<B> scanLeft(final B zero, final Function<B, Function<A, B>> accumulatorOp) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(zero)//
-						.isNonNull("zero")//
-						.andOtherObjectIsNotNull(accumulatorOp, "accumulatorOp"))
+				.requireNonNull(zero, "zero", accumulatorOp, "accumulatorOp")
 				.processOperationWithResult(l -> l.scanLeft(zero, accumulatorOp))//
 				.andMakeStackTraceUnderTheName("scanLeft")//
 				.mapTo(List::makeTypeSafe);//
@@ -1462,10 +2259,7 @@ public final class List<A> implements //
 	@Override
 	public <B> List<B> scanRight(final B zero, final Function<A, Function<B, B>> accumulatorOp) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(zero)//
-						.isNonNull("zero")//
-						.andOtherObjectIsNotNull(accumulatorOp, "accumulatorOp"))//
+				.requireNonNull(zero, "zero", accumulatorOp, "accumulatorOp")//
 				.processOperationWithResult(l -> l.scanRight(zero, accumulatorOp))//
 				.andMakeStackTraceUnderTheName("scanRight")//
 				.mapTo(List::makeTypeSafe);//
@@ -1488,8 +2282,7 @@ public final class List<A> implements //
 	@Override
 	public <B> List<B> sequence(final Function<A, Result<B>> transformer) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(transformer).isNonNull("transformer"))//
+				.requireNonNull(transformer, "transformer")//
 				.processOperationWithResult(l -> l.sequence(transformer))//
 				.andMakeStackTraceUnderTheName("sequence")//
 				.mapTo(List::makeTypeSafe);//
@@ -1499,8 +2292,7 @@ public final class List<A> implements //
 	@Override
 	public <A1, A2> Result<Tuple2<List<A1>, List<A2>>> unzip(final Function<A, Tuple2<A1, A2>> unzipper) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(unzipper).isNonNull("unzipper"))//
+				.requireNonNull(unzipper, "unzipper")//
 				.processOperationWithResult(l -> l.unzip(unzipper))//
 				.andMakeStackTraceUnderTheName("unzip")//
 
@@ -1511,8 +2303,7 @@ public final class List<A> implements //
 	@Override
 	public Result<Tuple2<List<A>, List<A>>> partition(final Predicate<A> partitioner) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(partitioner).isNonNull("partitioner"))//
+				.requireNonNull(partitioner, "partitioner")//
 				.processOperationWithResult(l -> l.partition(partitioner))//
 				.andMakeStackTraceUnderTheName("partition")//
 				.getResultProccess()//
@@ -1533,8 +2324,7 @@ public final class List<A> implements //
 	@Override
 	public List<A> intersperse(final A element) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(element).isNonNull("element"))//
+				.requireNonNull(element, "element")//
 				.processOperation(l -> l.intersperse(element))//
 				.andMakeStackTraceUnderTheName("intersperse")//
 				.mapTo(List::makeTypeSafe);
@@ -1571,6 +2361,39 @@ public final class List<A> implements //
 
 	}
 
+	@Override
+	public Result<Integer> indexOfSubList(final List<A> sub) {
+		final var errorProcessingMessage = CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST.withArgumentName("sub")
+				.getMessage();
+
+		return from(source)//
+				.checkCondition(() -> If.givenObject(sub)//
+						.isNonNull("sub")//
+						.andIs(List::isProcessSuccess, errorProcessingMessage))//
+				.processOperationWithResult(l -> l.indexOfSubList(sub.getListImpSource()))//
+				.andMakeStackTraceUnderTheName("indexOfSubList")//
+				.getResultProccess();//
+
+	}
+
+	@Override
+	public List<Integer> allIndicesOfSubList(final List<A> sub) {
+		final var errorProcessingMessage = CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST.withArgumentName("sub")
+				.getMessage();
+		final var emptySubMessage = CastumArgumentMessage.ERROR_ZERO_LENGTH_ARGUMENT_ARRAY.withArgumentName("sub")
+				.getMessage();
+
+		return from(source)//
+				.checkCondition(() -> If.givenObject(sub)//
+						.isNonNull("sub")//
+						.andIs(List::isProcessSuccess, errorProcessingMessage)//
+						.andIs(s -> s.getListImpSource().isNotEmpty(), emptySubMessage))//
+				.processOperation(l -> l.allIndicesOfSubList(sub.getListImpSource()))//
+				.andMakeStackTraceUnderTheName("allIndicesOfSubList")//
+				.mapTo(List::makeTypeSafe);
+
+	}
+
 	public <B> List<A> safeApplySequence(
 
 			final Function<A, Result<B>> f) {
@@ -1597,7 +2420,8 @@ public final class List<A> implements //
 			// A reasonable practical limit for most in-memory lists before performance and
 			// memory issues become significant.
 			// This value allows for a million elements, aligning with the upper end of your
-			// assumed range.
+			// assumed range. It is the limit of SizePolicy.DEFAULT, see SizePolicy to
+			// configure another one.
 			public static final int MAX_LIST_SIZE = 300_000;
 
 			public static final int HALF_OF_MAX_LIST_SIZE = MAX_LIST_SIZE / 2;//
@@ -1622,7 +2446,9 @@ public final class List<A> implements //
 			ERROR_INDEX_OF_IN_EMPTY_LIST("Failed to find index of an element"),
 			ERROR_GET_ELEMENTS_AT_INDEXES_IN_EMPTY_LIST("Failed to get elements at certain indexes"),
 			ERROR_FIRST_IN_EMPTY_LIST("Cannot retrieve the first element from an empty list."),
-			ERROR_INDEX_WHERE_IN_EMPTY_LIST("Cannot find the index where a condition matches in an empty list.");
+			ERROR_INDEX_WHERE_IN_EMPTY_LIST("Cannot find the index where a condition matches in an empty list."),
+			ERROR_MIN_BY_IN_EMPTY_LIST("Failed to find the smallest element"),
+			ERROR_MAX_BY_IN_EMPTY_LIST("Failed to find the largest element");
 
 			private final String message;
 			private final String DEFAULT_ERROR_MESSAGE_IN_EMPTY_LIST = ".\nCannot perform the operation on an empty list.";
@@ -1661,6 +2487,11 @@ public final class List<A> implements //
 					"From index is not less than until index at least in 2 numbers"),
 			ERROR_STEP_SIZE_TOO_LARGE("The range between 'from' and 'until' is too small for the specified step size"),
 			ERROR_ELEMENT_NOT_FOUND("No element satisfying the function in list\n(Element not found)"),
+			ERROR_SUM_OVERFLOW("The sum of the elements overflows the range of long."),
+			ERROR_SUB_LIST_NOT_FOUND("The sub list could not be found in the list."),
+			ERROR_MEMORY_BUDGET_TOO_SMALL("The memory budget is too small to hold a single element."),
+			ERROR_INVALID_WEIGHT("Every weight must be a positive, finite number."),
+			ERROR_BUILDER_FROZEN("The builder has already built its list and can no longer change."),
 			ERROR_TYPE_NOT_COMPARABLE("""
 					Error constructing tree:
 					The elements in the list are of type which does not implement Comparable.
@@ -1690,7 +2521,9 @@ public final class List<A> implements //
 					This error occurs if the element does not match any entry in the list,
 					meaning it is not identical to any of the existing items in the collection.
 					Ensure that the element you are searching for is correctly represented and exists in the list.
-					""")
+					"""),
+			ERROR_SIZE_LIMIT_OF_POLICY_EXCEEDED(
+					"The size limit of the size policy in use must not be exceeded (###limit###). This applies to ranges, fills, and indices.")
 
 			;
 
@@ -1753,6 +2586,8 @@ public final class List<A> implements //
 
 		dev.ofekmalka.tools.stream.Stream<A> toStream();
 
+		java.util.Spliterator<A> spliterator();
+
 		Set<A> toSet();
 
 		boolean hasDuplicatedElements();
@@ -1763,9 +2598,33 @@ public final class List<A> implements //
 
 		ListImp<A> distinct();
 
-		ListImp<ListImp<A>> subLists();
+		dev.ofekmalka.tools.stream.Stream<List<A>> powerSet();
+
+		dev.ofekmalka.tools.stream.Stream<List<A>> combinations(int k);
+
+		dev.ofekmalka.tools.stream.Stream<List<A>> permutations();
+
+		<B> dev.ofekmalka.tools.stream.Stream<Tuple2<A, B>> cartesianProduct(ListImp<B> joinedList);
+
+		ListImp<A> shuffle(RandomGenerator random);
+
+		ListImp<A> sample(int k, RandomGenerator random);
+
+		Result<ListImp<A>> weightedSample(int k, Function<A, Double> weight, RandomGenerator random);
+
+		Result<ListImp<A>> sortBy(Comparator<A> comparator);
+
+		<B extends Comparable<? super B>> Result<ListImp<A>> sortWith(Function<A, B> keyExtractor);
 
-		ListImp<A> shuffle();
+		Result<ListImp<A>> topK(int k, Comparator<A> comparator);
+
+		Result<A> minBy(Comparator<A> comparator);
+
+		Result<A> maxBy(Comparator<A> comparator);
+
+		ListImp<List<A>> sliding(int n, int step);
+
+		Result<ListImp<List<A>>> splitEvery(Predicate<A> predicate);
 
 		ListImp<Tuple2<A, Integer>> zipWithPosition();
 
@@ -1847,6 +2706,10 @@ public final class List<A> implements //
 
 		boolean hasSubList(ListImp<A> sub);
 
+		Result<Integer> indexOfSubList(ListImp<A> sub);
+
+		ListImp<Integer> allIndicesOfSubList(ListImp<A> sub);
+
 		Result<ListImp<A>> filter(Predicate<A> predicate);
 
 		<B> Result<ListImp<B>> map(Function<A, B> elementTransformer);
@@ -1931,15 +2794,22 @@ public final class List<A> implements //
 
 			// Operations on Lists
 
-			<T> ListImp<T> fromCollection(final Collection<T> ct);
+			<T> Result<ListImp<T>> fromCollection(final Collection<T> ct);
 
 			<T> ListImp<T> fromJavaStreamUtil(final java.util.stream.Stream<T> stream);
 
+			<T> ListImp<T> indexedCopyOf(final ListImp<T> list);
+
+			<T> ListImp<T> compactCopyOf(final ListImp<T> list);
+
+			<T> ListImp<T> internedCopyOf(final ListImp<T> list);
+
 			<A> Result<ListImp<A>> iterate(final A seed, final Function<A, A> f, final int n);
 
 			ListImp<Integer> generateRange(final int start, final int end);
 
-			<A, S> Result<ListImp<A>> unfold(final S z, final Function<S, Result<Tuple2<A, S>>> generator);
+			<A, S> Result<ListImp<A>> unfold(final S z, final Function<S, Result<Tuple2<A, S>>> generator,
+					SizePolicy sizePolicy);
 
 			<A1, A2> Tuple2<ListImp<A1>, ListImp<A2>> unzip(final ListImp<Tuple2<A1, A2>> list);
 
@@ -1958,11 +2828,6 @@ public final class List<A> implements //
 		private ListImp() {
 		}
 
-		final static <A> ListImp<A> list(final Collection<A> collection) {
-
-			return ListImp.staticMethod().fromCollection(collection);
-
-		}
 		// inner validation cause return Result
 
 		@Override
@@ -2069,6 +2934,28 @@ public final class List<A> implements //
 							.toString() + "NIL]";
 		}
 
+		private static boolean hasSameElements(final ListImp<?> list, final Object other) {
+			if (!(other instanceof final ListImp<?> otherList) || otherList.isEmpty()
+					|| list.size() != otherList.size())
+				return false;
+
+			ListImp<?> list1 = list;
+			ListImp<?> list2 = otherList;
+
+			while (!list1.isEmpty() && !list2.isEmpty()) {
+				// a shared tail, such as two interned lists have, is equal to itself
+				if (list1 == list2)
+					return true;
+				if (!Objects.equals(list1.firstElement(), list2.firstElement()))
+					return false; // early exit on mismatch
+				list1 = list1.restElements();
+				list2 = list2.restElements();
+			}
+
+			// Both lists should be empty here, sizes were equal, so return true
+			return true;
+		}
+
 		final static class Nil<A> extends ListImp<A> {
 
 			@Override
@@ -2197,11 +3084,156 @@ public final class List<A> implements //
 		}
 
 //-------------------------------------------------------------------
+		/**
+		 * Hash-consing of {@link Cons} cells: a cell is looked up by its element and
+		 * the identity of its already interned rest, so equal lists interned here
+		 * share every cell, and equal tails are shared too. The key of a cell is its
+		 * own memoized hash code, computed in O(1) from the hash code of the rest.
+		 * <p>
+		 * The table only holds its cells weakly, so a cell nothing else refers to is
+		 * collected, and its entry is dropped on the next lookup. Elements must keep
+		 * their {@code equals} and {@code hashCode} for as long as they are in an
+		 * interned list.
+		 */
+		static final class InternTable {
+
+			private static final java.util.concurrent.ConcurrentHashMap<CellKey, CellReference> CELLS = new java.util.concurrent.ConcurrentHashMap<>();
+			private static final java.lang.ref.ReferenceQueue<Cons<?>> COLLECTED = new java.lang.ref.ReferenceQueue<>();
+
+			private InternTable() {
+			}
+
+			@SuppressWarnings("unchecked")
+			static <A> ListImp<A> intern(final ListImp<A> list) {
+				expungeCollected();
+				final var elements = elementsOf(list);
+				ListImp<A> result = emptyList();
+				for (var i = elements.length - 1; i >= 0; i--)
+					result = canonical((A) elements[i], result);
+				return result;
+			}
+
+			static int size() {
+				expungeCollected();
+				return CELLS.size();
+			}
+
+			@SuppressWarnings("unchecked")
+			private static <A> Cons<A> canonical(final A element, final ListImp<A> rest) {
+				final var probe = new Probe(element, rest);
+				while (true) {
+					final var existing = CELLS.get(probe);
+					final var cell = existing == null ? null : existing.get();
+					if (cell != null)
+						return (Cons<A>) cell;
+					if (existing != null)
+						CELLS.remove(existing, existing);
+
+					final var created = new Cons<>(element, rest);
+					final var reference = new CellReference(created, probe.hash);
+					if (CELLS.putIfAbsent(reference, reference) == null)
+						return created;
+				}
+			}
+
+			private static void expungeCollected() {
+				for (var collected = COLLECTED.poll(); collected != null; collected = COLLECTED.poll())
+					CELLS.remove(collected, collected);
+			}
+
+			// the same value Cons.hashCode memoizes
+			private static int hashOf(final Object element, final ListImp<?> rest) {
+				return 31 * (31 + Objects.hashCode(element)) + rest.hashCode();
+			}
+
+			private static boolean sameCell(final CellKey key, final Object other) {
+				if (key == other)
+					return true;
+				if (!(other instanceof final CellKey otherKey) || key.hashCode() != otherKey.hashCode())
+					return false;
+				final var rest = key.rest();
+				// a collected cell only equals itself, so that it can still be removed
+				return rest != null && rest == otherKey.rest() && Objects.equals(key.element(), otherKey.element());
+			}
+
+			private sealed interface CellKey permits Probe, CellReference {
+				Object element();
+
+				ListImp<?> rest();
+			}
+
+			private static final class Probe implements CellKey {
+				private final Object element;
+				private final ListImp<?> rest;
+				private final int hash;
+
+				private Probe(final Object element, final ListImp<?> rest) {
+					this.element = element;
+					this.rest = rest;
+					this.hash = hashOf(element, rest);
+				}
+
+				@Override
+				public Object element() {
+					return element;
+				}
+
+				@Override
+				public ListImp<?> rest() {
+					return rest;
+				}
+
+				@Override
+				public int hashCode() {
+					return hash;
+				}
+
+				@Override
+				public boolean equals(final Object obj) {
+					return sameCell(this, obj);
+				}
+			}
+
+			private static final class CellReference extends java.lang.ref.WeakReference<Cons<?>> implements CellKey {
+				private final int hash;
+
+				private CellReference(final Cons<?> cell, final int hash) {
+					super(cell, COLLECTED);
+					this.hash = hash;
+				}
+
+				@Override
+				public Object element() {
+					final var cell = get();
+					return cell == null ? null : cell.firstElement;
+				}
+
+				@Override
+				public ListImp<?> rest() {
+					final var cell = get();
+					return cell == null ? null : cell.restElements;
+				}
+
+				@Override
+				public int hashCode() {
+					return hash;
+				}
+
+				@Override
+				public boolean equals(final Object obj) {
+					return sameCell(this, obj);
+				}
+			}
+		}
+
 		final static class Cons<A> extends ListImp<A> {
 			private final A firstElement;
 			private final ListImp<A> restElements;
 			private final int length;
-			private final int hashCodeMemo;
+			// racy single-check as in String: computed on first use, and hashIsZero tells
+			// a computed 0 from one not computed yet
+			private int hashCodeMemo;
+			private boolean hashIsZero;
 
 			private Cons(final A firstElement, final ListImp<A> restElements) {
 				this.firstElement = firstElement;
@@ -2209,12 +3241,39 @@ public final class List<A> implements //
 				this.length =
 
 						restElements.size() + 1;
-				// Memoize hashCode once, so it's O(1) after the first calculation
-				this.hashCodeMemo = computeHashCode(firstElement, restElements);
 			}
 
-			private int computeHashCode(final A firstElement, final ListImp<A> restElements) {
-				return Objects.hash(firstElement, restElements);
+			/**
+			 * Same value as {@code Objects.hash(firstElement, restElements)}, computed
+			 * from the last element backwards instead of recursing once per element, and
+			 * memoized in every cell on the way.
+			 */
+			private int computeHashCode() {
+				final var pending = new ArrayList<Cons<A>>();
+				ListImp<A> current = this;
+				while (current instanceof final Cons<A> cons && !cons.hasHashCode()) {
+					pending.add(cons);
+					current = cons.restElements;
+				}
+
+				var hash = current.hashCode();
+				for (var i = pending.size() - 1; i >= 0; i--) {
+					final var cons = pending.get(i);
+					hash = 31 * (31 + Objects.hashCode(cons.firstElement)) + hash;
+					cons.memoizeHashCode(hash);
+				}
+				return hash;
+			}
+
+			private boolean hasHashCode() {
+				return hashCodeMemo != 0 || hashIsZero;
+			}
+
+			private void memoizeHashCode(final int hash) {
+				if (hash == 0)
+					hashIsZero = true;
+				else
+					hashCodeMemo = hash;
 			}
 
 			/**
@@ -2235,27 +3294,13 @@ public final class List<A> implements //
 			 */
 			@Override
 			public Result<Integer> generateHashCode() {
-				return Result.success(hashCodeMemo); // Return precomputed hash code (O(1))
+				return Result.success(hashCode()); // O(1) once computed
 			}
 
 			@Override
 			public boolean isEqualTo(final Object o) {
 
-				if (!(o instanceof final Cons<?> other) || this.size() != other.size())
-					return false;
-
-				ListImp<A> list1 = this;
-				ListImp<?> list2 = other;
-
-				while (!list1.isEmpty() && !list2.isEmpty()) {
-					if (!Objects.equals(list1.firstElement(), list2.firstElement()))
-						return false; // early exit on mismatch
-					list1 = list1.restElements();
-					list2 = list2.restElements();
-				}
-
-				// Both lists should be empty here, sizes were equal, so return true
-				return true;
+				return hasSameElements(this, o);
 
 			}
 
@@ -2264,6 +3309,12 @@ public final class List<A> implements //
 				return this.isEqualTo(obj);
 			}
 
+			@Override
+			public int hashCode() {
+				final var memo = hashCodeMemo;
+				return memo != 0 || hashIsZero ? memo : computeHashCode();
+			}
+
 			@Override
 			public A firstElement() {
 				return firstElement;
@@ -2428,6 +3479,673 @@ public final class List<A> implements //
 
 		}
 
+//-------------------------------------------------------------------
+		/**
+		 * An unrolled list cell: the elements from {@code offset} to the end of a
+		 * shared {@link Block} of {@value #CAPACITY} slots, in front of the block's
+		 * tail. A list of full blocks costs about one array slot per element instead of
+		 * one {@link Cons} per element, and reads each run from a single array.
+		 * {@code restElements} is an O(1) view one slot further. {@code cons} claims the
+		 * free slot in front of the first element when no other list has claimed it
+		 * yet, and starts a new block otherwise, so it stays O(1) and never changes an
+		 * existing list.
+		 */
+		final static class UnrolledCell<A> extends ListImp<A> {
+			static final int CAPACITY = 16;
+
+			private final Block<A> block;
+			private final int offset;
+			private final int length;
+			// racy single-check, hashIsZero tells a computed 0 from one not computed yet
+			private int hashCodeMemo;
+			private boolean hashIsZero;
+
+			private UnrolledCell(final Block<A> block, final int offset, final int length) {
+				this.block = block;
+				this.offset = offset;
+				this.length = length;
+			}
+
+			private static final class Block<A> {
+				@SuppressWarnings("rawtypes")
+				private static final java.util.concurrent.atomic.AtomicIntegerFieldUpdater<Block> FIRST_CLAIMED = //
+						java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater(Block.class, "firstClaimed");
+
+				private final Object[] slots = new Object[CAPACITY];
+				private final ListImp<A> tail;
+				// slots are handed out from the end, this only ever goes down
+				private volatile int firstClaimed;
+
+				private Block(final ListImp<A> tail, final int firstClaimed) {
+					this.tail = tail;
+					this.firstClaimed = firstClaimed;
+				}
+
+				// takes the free slot in front of first, if no other list has taken it yet
+				private boolean claimSlotBefore(final int first) {
+					return FIRST_CLAIMED.compareAndSet(this, first, first - 1);
+				}
+			}
+
+			static <A> ListImp<A> copyOf(final ListImp<A> list) {
+				if (list instanceof final UnrolledCell<A> cell)
+					return cell;
+
+				final var elements = elementsOf(list);
+				return fromElements(elements, elements.length);
+			}
+
+			// the last block is filled first, so only the first block can be partial
+			static <A> ListImp<A> fromElements(final Object[] elements, final int count) {
+				ListImp<A> result = emptyList();
+				for (var end = count; end > 0; end -= CAPACITY) {
+					final var run = Math.min(CAPACITY, end);
+					final var block = new Block<>(result, CAPACITY - run);
+					System.arraycopy(elements, end - run, block.slots, CAPACITY - run, run);
+					result = new UnrolledCell<>(block, CAPACITY - run, result.size() + run);
+				}
+				return result;
+			}
+
+			private int run() {
+				return CAPACITY - offset;
+			}
+
+			private static void copyElements(final UnrolledCell<?> first, final Object[] elements) {
+				var index = 0;
+				ListImp<?> current = first;
+				while (current instanceof final UnrolledCell<?> cell) {
+					System.arraycopy(cell.block.slots, cell.offset, elements, index, cell.run());
+					index += cell.run();
+					current = cell.block.tail;
+				}
+				for (; !current.isEmpty(); current = current.restElements())
+					elements[index++] = current.firstElement();
+			}
+
+			@Override
+			public ListImp<A> cons(final A element) {
+				if (offset > 0 && block.claimSlotBefore(offset)) {
+					block.slots[offset - 1] = element;
+					return new UnrolledCell<>(block, offset - 1, length + 1);
+				}
+				final var front = new Block<>(this, CAPACITY - 1);
+				front.slots[CAPACITY - 1] = element;
+				return new UnrolledCell<>(front, CAPACITY - 1, length + 1);
+			}
+
+			@Override
+			public Result<Integer> generateHashCode() {
+				return Result.success(hashCode());
+			}
+
+			/**
+			 * Same value as a {@link Cons} chain with the same elements, computed from the
+			 * last run backwards instead of recursing once per block.
+			 */
+			@Override
+			public int hashCode() {
+				final var memo = hashCodeMemo;
+				if (memo != 0 || hashIsZero)
+					return memo;
+
+				final var pending = new ArrayList<UnrolledCell<A>>();
+				ListImp<A> current = this;
+				while (current instanceof final UnrolledCell<A> cell && cell.hashCodeMemo == 0 && !cell.hashIsZero) {
+					pending.add(cell);
+					current = cell.block.tail;
+				}
+
+				var hash = current.hashCode();
+				for (var i = pending.size() - 1; i >= 0; i--) {
+					final var cell = pending.get(i);
+					for (var slot = CAPACITY - 1; slot >= cell.offset; slot--)
+						hash = 31 * (31 + Objects.hashCode(cell.block.slots[slot])) + hash;
+					if (hash == 0)
+						cell.hashIsZero = true;
+					else
+						cell.hashCodeMemo = hash;
+				}
+				return hash;
+			}
+
+			@Override
+			public boolean isEqualTo(final Object other) {
+				return hasSameElements(this, other);
+			}
+
+			@Override
+			public boolean equals(final Object obj) {
+				return this.isEqualTo(obj);
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public A firstElement() {
+				return (A) block.slots[offset];
+			}
+
+			@Override
+			public ListImp<A> restElements() {
+				return offset + 1 < CAPACITY ? new UnrolledCell<>(block, offset + 1, length - 1) : block.tail;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return FALSE;
+			}
+
+			@Override
+			public int size() {
+				return length;
+			}
+
+			@Override
+			public boolean isNotEmpty() {
+				return TRUE;
+			}
+
+			@Override
+			public Result<A> firstElementOption() {
+				return success(this.firstElement());
+			}
+
+			@Override
+			public Result<ListImp<A>> restElementsOption() {
+				return success(this.restElements());
+			}
+
+			@Override
+			public Result<Tuple2<A, ListImp<A>>> firstElementAndRestElementsOption() {
+				return Tuple2.of(this.firstElement(), this.restElements()).getResult();
+			}
+
+			@Override
+			public Result<ListImp<A>> setFirstElement(final A firstElement) {
+				return success(this.restElements().cons(firstElement));
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <B> Result<B> foldLeft(final B identity, final Function<B, Function<A, B>> accumulator) {
+				try {
+					var result = identity;
+					ListImp<A> current = this;
+					while (current instanceof final UnrolledCell<A> cell) {
+						for (var slot = cell.offset; slot < CAPACITY; slot++) {
+							final var fn = accumulator.apply(result);
+							if (fn == null)
+								return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+							final var nextResult = fn.apply((A) cell.block.slots[slot]);
+							if (nextResult == null)
+								return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+							result = nextResult;
+						}
+						current = cell.block.tail;
+					}
+					return current.foldLeft(result, accumulator);
+				} catch (final Exception e) {
+					return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+				}
+			}
+
+			@Override
+			public Result<A> reduce(final Function<A, Function<A, A>> elementTransformer) {
+				return this.restElements().foldLeft(this.firstElement(), elementTransformer);
+			}
+
+			@Override
+			public Result<ListImp<A>> last() {
+				var cell = this;
+				while (cell.block.tail instanceof final UnrolledCell<A> next)
+					cell = next;
+				return cell.block.tail.isEmpty() //
+						? Result.success(new UnrolledCell<>(cell.block, CAPACITY - 1, 1))
+						: cell.block.tail.last();
+			}
+
+			@Override
+			public Result<ListImp<A>> removeByIndex(final int index) {
+				if (index < 0 || index >= size())
+					return Result.success(this);
+
+				final var elements = elementsOf(this);
+				System.arraycopy(elements, index + 1, elements, index, elements.length - index - 1);
+				return Result.success(fromElements(elements, elements.length - 1));
+			}
+
+			@Override
+			public Result<Tuple2<ListImp<A>, ListImp<A>>> splitAt(final int index) {
+				final var middle = Math.max(0, Math.min(index, size()));
+				return Tuple2.of(takeAtMost(middle), dropAtMost(middle)).getResult();
+			}
+
+			@Override
+			public Result<ListImp<A>> updatedAllBetween(final int fromIndex, final int untilIndex, final A newElement) {
+				final var elements = elementsOf(this);
+				java.util.Arrays.fill(elements, Math.max(0, Math.min(fromIndex, elements.length)),
+						Math.max(0, Math.min(untilIndex, elements.length)), newElement);
+				return Result.success(fromElements(elements, elements.length));
+			}
+
+			@Override
+			public Result<ListImp<A>> setElementAtIndex(final int index, final A element) {
+				if (index < 0 || index >= size())
+					return Result.success(this);
+
+				final var elements = elementsOf(this);
+				elements[index] = element;
+				return Result.success(fromElements(elements, elements.length));
+			}
+
+			@Override
+			public Result<Integer> indexOf(final A element) {
+				return indexWhere(e -> e.equals(element));
+			}
+
+			@Override
+			public ListImp<A> takeAtMost(final int n) {
+				if (n >= size())
+					return this;
+				return fromElements(elementsOf(this), Math.max(n, 0));
+			}
+
+			// skips whole runs, and views into the run the drop ends in
+			@Override
+			public ListImp<A> dropAtMost(final int n) {
+				if (n <= 0)
+					return this;
+				if (n >= size())
+					return emptyList();
+
+				var remaining = n;
+				ListImp<A> current = this;
+				while (current instanceof final UnrolledCell<A> cell) {
+					if (remaining < cell.run())
+						return new UnrolledCell<>(cell.block, cell.offset + remaining, cell.length - remaining);
+					remaining -= cell.run();
+					current = cell.block.tail;
+				}
+				return current.dropAtMost(remaining);
+			}
+
+		}
+
+		/**
+		 * A slice {@code [start, end)} of a persistent 32-way trie with a tail buffer,
+		 * read from either end. Indexed get and set, append and {@code last} cost
+		 * O(log32 n), which is at most four levels under the default
+		 * {@link SizePolicy}, and {@code restElements},
+		 * {@code takeAtMost}, {@code dropAtMost} and {@code reverse} are O(1) views over
+		 * the same trie, so the right-side operations never copy the list. Every other
+		 * operation works unchanged through {@code firstElement}/{@code restElements},
+		 * and {@code cons} puts a regular {@link Cons} in front of it. A vector is never
+		 * empty, an empty slice is {@link Nil}.
+		 */
+		final static class Vector<A> extends ListImp<A> {
+			private final Trie<A> trie;
+			private final int start;
+			private final int end;
+			// reads the slice from end - 1 down to start
+			private final boolean reversed;
+			// racy single-check, hashIsZero tells a computed 0 from one not computed yet
+			private int hashCodeMemo;
+			private boolean hashIsZero;
+
+			private Vector(final Trie<A> trie, final int start, final int end, final boolean reversed) {
+				this.trie = trie;
+				this.start = start;
+				this.end = end;
+				this.reversed = reversed;
+			}
+
+			static <A> ListImp<A> copyOf(final ListImp<A> list) {
+				if (list instanceof final Vector<A> vector)
+					return vector;
+
+				final var elements = elementsOf(list);
+				return slice(Trie.<A>of(elements), 0, elements.length, false);
+			}
+
+			static <A> ListImp<A> fromElements(final Object[] elements) {
+				return slice(Trie.<A>of(elements), 0, elements.length, false);
+			}
+
+			private static <A> ListImp<A> slice(final Trie<A> trie, final int start, final int end,
+					final boolean reversed) {
+				return start >= end ? emptyList() : new Vector<>(trie, start, end, reversed);
+			}
+
+			private int position(final int index) {
+				return reversed ? end - 1 - index : start + index;
+			}
+
+			private A get(final int index) {
+				return trie.get(position(index));
+			}
+
+			// the logical range [from, until) in the same direction
+			private ListImp<A> view(final int from, final int until) {
+				return reversed //
+						? slice(trie, end - until, end - from, true)
+						: slice(trie, start + from, start + until, false);
+			}
+
+			private ListImp<A> rebuild(final java.util.function.IntFunction<Object> elementAt, final int length) {
+				final var elements = new Object[length];
+				for (var i = 0; i < length; i++)
+					elements[i] = elementAt.apply(i);
+				return fromElements(elements);
+			}
+
+			@Override
+			java.util.function.IntFunction<A> indexedView() {
+				return this::get;
+			}
+
+			@Override
+			public java.util.Spliterator<A> spliterator() {
+				return new IndexedSpliterator<>(this::get, 0, size());
+			}
+
+			@Override
+			public Result<Integer> generateHashCode() {
+				return Result.success(hashCode());
+			}
+
+			/**
+			 * Same value as a {@link Cons} chain with the same elements, which hashes as
+			 * {@code Objects.hash(firstElement, restElements)} on top of {@link Nil}'s 0.
+			 */
+			@Override
+			public int hashCode() {
+				var result = hashCodeMemo;
+				if (result == 0 && !hashIsZero) {
+					for (var i = size() - 1; i >= 0; i--)
+						result = 31 * (31 + Objects.hashCode(get(i))) + result;
+					if (result == 0)
+						hashIsZero = true;
+					else
+						hashCodeMemo = result;
+				}
+				return result;
+			}
+
+			@Override
+			public boolean isEqualTo(final Object other) {
+				return hasSameElements(this, other);
+			}
+
+			@Override
+			public boolean equals(final Object obj) {
+				return this.isEqualTo(obj);
+			}
+
+			@Override
+			public A firstElement() {
+				return get(0);
+			}
+
+			@Override
+			public ListImp<A> restElements() {
+				return view(1, size());
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return FALSE;
+			}
+
+			@Override
+			public int size() {
+				return end - start;
+			}
+
+			@Override
+			public boolean isNotEmpty() {
+				return TRUE;
+			}
+
+			@Override
+			public Result<A> firstElementOption() {
+				return success(this.firstElement());
+			}
+
+			@Override
+			public Result<ListImp<A>> restElementsOption() {
+				return success(this.restElements());
+			}
+
+			@Override
+			public Result<Tuple2<A, ListImp<A>>> firstElementAndRestElementsOption() {
+				return Tuple2.of(this.firstElement(), this.restElements()).getResult();
+			}
+
+			@Override
+			public Result<ListImp<A>> setFirstElement(final A firstElement) {
+				return this.setElementAtIndex(0, firstElement);
+			}
+
+			@Override
+			public <B> Result<B> foldLeft(final B identity, final Function<B, Function<A, B>> accumulator) {
+				try {
+					var result = identity;
+					for (var i = 0; i < size(); i++) {
+						final var fn = accumulator.apply(result);
+						if (fn == null)
+							return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+						final var nextResult = fn.apply(get(i));
+						if (nextResult == null)
+							return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+						result = nextResult;
+					}
+					return Result.success(result);
+				} catch (final Exception e) {
+					return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+				}
+			}
+
+			@Override
+			public Result<A> reduce(final Function<A, Function<A, A>> elementTransformer) {
+				return this.restElements().foldLeft(this.firstElement(), elementTransformer);
+			}
+
+			@Override
+			public Result<ListImp<A>> last() {
+				return Result.success(view(size() - 1, size()));
+			}
+
+			@Override
+			public Result<A> lastOption() {
+				return Result.success(get(size() - 1));
+			}
+
+			@Override
+			public ListImp<A> reverse() {
+				return new Vector<>(trie, start, end, !reversed);
+			}
+
+			@Override
+			public Result<ListImp<A>> removeByIndex(final int index) {
+				if (index < 0 || index >= size())
+					return Result.success(this);
+
+				return Result.success(rebuild(i -> get(i < index ? i : i + 1), size() - 1));
+			}
+
+			@Override
+			public Result<Tuple2<ListImp<A>, ListImp<A>>> splitAt(final int index) {
+				final var middle = Math.max(0, Math.min(index, size()));
+				return Tuple2.of(view(0, middle), view(middle, size())).getResult();
+			}
+
+			@Override
+			public Result<ListImp<A>> updatedAllBetween(final int fromIndex, final int untilIndex, final A newElement) {
+				return Result.success(rebuild(i -> i >= fromIndex && i < untilIndex ? newElement : get(i), size()));
+			}
+
+			@Override
+			public Result<ListImp<A>> setElementAtIndex(final int index, final A element) {
+				if (index < 0 || index >= size())
+					return Result.success(this);
+
+				return Result.success(new Vector<>(trie.set(position(index), element), start, end, reversed));
+			}
+
+			@Override
+			public Result<Integer> indexOf(final A element) {
+				return indexWhere(e -> e.equals(element));
+			}
+
+			@Override
+			public ListImp<A> takeAtMost(final int n) {
+				return n >= size() ? this : view(0, Math.max(n, 0));
+			}
+
+			@Override
+			public ListImp<A> dropAtMost(final int n) {
+				return n <= 0 ? this : view(Math.min(n, size()), size());
+			}
+
+			@Override
+			public ListImp<A> add(final ListImp<A> other) {
+				if (other.isEmpty())
+					return this;
+				if (reversed) {
+					final var appended = elementsOf(other);
+					return rebuild(i -> i < size() ? get(i) : appended[i - size()], size() + appended.length);
+				}
+
+				var appended = trie;
+				var newEnd = end;
+				for (var current = other; !current.isEmpty(); current = current.restElements()) {
+					appended = newEnd == appended.count //
+							? appended.append(current.firstElement())//
+							: appended.set(newEnd, current.firstElement());
+					newEnd++;
+				}
+				return new Vector<>(appended, start, newEnd, false);
+			}
+
+		}
+
+		/**
+		 * The persistent bit-partitioned trie behind {@link Vector}: elements live in
+		 * leaves of 32, the last (at most 32) elements live in {@code tail} so that
+		 * appending usually copies only the tail. Updates copy the path from the root
+		 * to the leaf and share everything else.
+		 */
+		private final static class Trie<A> {
+			private static final int BITS = 5;
+			private static final int WIDTH = 1 << BITS;
+			private static final int MASK = WIDTH - 1;
+
+			private final int count;
+			private final int shift;
+			private final Object[] root;
+			private final Object[] tail;
+
+			private Trie(final int count, final int shift, final Object[] root, final Object[] tail) {
+				this.count = count;
+				this.shift = shift;
+				this.root = root;
+				this.tail = tail;
+			}
+
+			static <A> Trie<A> of(final Object[] elements) {
+				final var count = elements.length;
+				final var tailOffset = tailOffset(count);
+
+				var level = new Object[(tailOffset + MASK) >>> BITS];
+				for (var i = 0; i < level.length; i++)
+					level[i] = java.util.Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+
+				var shift = BITS;
+				while (level.length > WIDTH) {
+					final var parents = new Object[(level.length + MASK) >>> BITS];
+					for (var i = 0; i < parents.length; i++)
+						parents[i] = java.util.Arrays.copyOfRange(level, i << BITS, (i + 1) << BITS);
+					level = parents;
+					shift += BITS;
+				}
+
+				return new Trie<>(count, shift, java.util.Arrays.copyOf(level, WIDTH),
+						java.util.Arrays.copyOfRange(elements, tailOffset, count));
+			}
+
+			private static int tailOffset(final int count) {
+				return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+			}
+
+			@SuppressWarnings("unchecked")
+			A get(final int index) {
+				if (index >= tailOffset(count))
+					return (A) tail[index & MASK];
+
+				var node = root;
+				for (var level = shift; level > 0; level -= BITS)
+					node = (Object[]) node[(index >>> level) & MASK];
+				return (A) node[index & MASK];
+			}
+
+			Trie<A> set(final int index, final A element) {
+				if (index >= tailOffset(count)) {
+					final var newTail = tail.clone();
+					newTail[index & MASK] = element;
+					return new Trie<>(count, shift, root, newTail);
+				}
+				return new Trie<>(count, shift, set(shift, root, index, element), tail);
+			}
+
+			private static Object[] set(final int level, final Object[] node, final int index, final Object element) {
+				final var copy = node.clone();
+				if (level == 0)
+					copy[index & MASK] = element;
+				else {
+					final var childIndex = (index >>> level) & MASK;
+					copy[childIndex] = set(level - BITS, (Object[]) node[childIndex], index, element);
+				}
+				return copy;
+			}
+
+			Trie<A> append(final A element) {
+				if (count - tailOffset(count) < WIDTH) {
+					final var newTail = java.util.Arrays.copyOf(tail, tail.length + 1);
+					newTail[tail.length] = element;
+					return new Trie<>(count + 1, shift, root, newTail);
+				}
+
+				// the tail is full: push it into the tree, growing a level when the root is full
+				if ((count >>> BITS) > (1 << shift)) {
+					final var newRoot = new Object[WIDTH];
+					newRoot[0] = root;
+					newRoot[1] = newPath(shift, tail);
+					return new Trie<>(count + 1, shift + BITS, newRoot, new Object[] { element });
+				}
+				return new Trie<>(count + 1, shift, pushTail(shift, root), new Object[] { element });
+			}
+
+			private Object[] pushTail(final int level, final Object[] parent) {
+				final var childIndex = ((count - 1) >>> level) & MASK;
+				final var copy = parent.clone();
+				if (level == BITS)
+					copy[childIndex] = tail;
+				else {
+					final var child = (Object[]) parent[childIndex];
+					copy[childIndex] = Objects.nonNull(child) ? pushTail(level - BITS, child) : newPath(level - BITS, tail);
+				}
+				return copy;
+			}
+
+			private static Object[] newPath(final int level, final Object[] node) {
+				if (level == 0)
+					return node;
+				final var path = new Object[WIDTH];
+				path[0] = newPath(level - BITS, node);
+				return path;
+			}
+		}
+
 //START
 //SameNilAndConsImpl<A>
 
@@ -2472,13 +4190,33 @@ public final class List<A> implements //
 
 		@Override
 		public <B> Result<B> foldRight(final B identity, final Function<A, Function<B, B>> accumulator) {
-			return //
-
-			this.<ListImp<A>>foldLeft(emptyList(), acc -> element -> acc.cons(element))
-					.flatMap(reverseList -> reverseList.foldLeft(identity,
-							acc -> element -> accumulator.apply(element).apply(acc)))
+			final var elementAt = indexedView();
+			try {
+				var result = identity;
+				for (var i = size() - 1; i >= 0; i--) {
+					final var fn = accumulator.apply(elementAt.apply(i));
+					if (fn == null)
+						return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+					final var nextResult = fn.apply(result);
+					if (nextResult == null)
+						return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+					result = nextResult;
+				}
+				return Result.success(result);
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+		}
 
-			;
+		/**
+		 * Reads the elements by position, so that the right-side operations can walk
+		 * from the end instead of reversing the list. A {@link Vector} reads its trie,
+		 * any other list is copied once into an array.
+		 */
+		@SuppressWarnings("unchecked")
+		java.util.function.IntFunction<A> indexedView() {
+			final var elements = elementsOf(this);
+			return index -> (A) elements[index];
 		}
 
 		/**
@@ -2507,57 +4245,281 @@ public final class List<A> implements //
 
 		@Override
 		public Result<ListImp<A>> filter(final Predicate<A> predicate) {
-			return this.foldRight(emptyList(), element -> acc -> {
+			return this.transformInSinglePass(element -> {
 				final var keep = predicate.apply(element);
 				if (keep == null)
-					return null; // Consider failing fast earlier
-				return keep ? acc.cons(element) : acc;
+					return null;
+				return keep ? element : SKIPPED;
 			});
 		}
 
 		@Override
 		public Result<ListImp<A>> exclude(final Predicate<A> predicate) {
-			return this.foldRight(emptyList(), element -> acc -> {
+			return this.transformInSinglePass(element -> {
 				final var keep = predicate.apply(element);
 				if (keep == null)
-					return null; // Same caveat here
-				return keep ? acc : acc.cons(element);
+					return null;
+				return keep ? SKIPPED : element;
 			});
 		}
 
-		@Override
-		public <B> Result<ListImp<B>> map(final Function<A, B> elementTransformer) {
-			return this.foldRight(emptyList(), element -> acc -> {
-				final var transformed = elementTransformer.apply(element);
-				if (transformed == null)
-					return null; // Same caveat here
-				return acc.cons(transformed);
-			});
+		@Override
+		public <B> Result<ListImp<B>> map(final Function<A, B> elementTransformer) {
+			return this.transformInSinglePass(elementTransformer::apply);
+
+		}
+
+		// marks an element that a single pass step drops
+		static final Object SKIPPED = new Object();
+
+		/**
+		 * One forward traversal into a buffer, then a single build of the result from
+		 * its end, instead of folding right, which first copies the whole list in
+		 * reverse. A step returns the element to keep, {@link #SKIPPED} to drop it or
+		 * {@code null}, which fails the whole operation the same way a null result does
+		 * in {@link #foldLeft(Object, Function)}.
+		 */
+		private <B> Result<ListImp<B>> transformInSinglePass(final java.util.function.Function<A, Object> step) {
+			if (this instanceof UnrolledCell)
+				return transformCompact(step);
+
+			final var buffer = new Object[size()];
+			var count = 0;
+			try {
+				for (var current = this; !current.isEmpty(); current = current.restElements()) {
+					final var transformed = step.apply(current.firstElement());
+					if (transformed == null)
+						return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+					if (transformed != SKIPPED)
+						buffer[count++] = transformed;
+				}
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			return Result.success(fromBuffer(buffer, count));
+		}
+
+		// reads the runs of a compact list once and keeps the result compact
+		@SuppressWarnings("unchecked")
+		private <B> Result<ListImp<B>> transformCompact(final java.util.function.Function<A, Object> step) {
+			final var elements = elementsOf(this);
+			var count = 0;
+			try {
+				for (final var element : elements) {
+					final var transformed = step.apply((A) element);
+					if (transformed == null)
+						return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+					if (transformed != SKIPPED)
+						elements[count++] = transformed;
+				}
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			return Result.success(UnrolledCell.fromElements(elements, count));
+		}
+
+		static <B> ListImp<B> fromBuffer(final Object[] buffer, final int count) {
+			return fromBuffer(buffer, 0, count);
+		}
+
+		@SuppressWarnings("unchecked")
+		static <B> ListImp<B> fromBuffer(final Object[] buffer, final int from, final int until) {
+			ListImp<B> result = emptyList();
+			for (var i = until - 1; i >= from; i--)
+				result = result.cons((B) buffer[i]);
+			return result;
+		}
+
+		/**
+		 * Applies a search predicate exactly once per element and hands back a plain
+		 * {@code boolean}. A {@link Result} is only built when the predicate throws or
+		 * answers {@code null}, with the same message {@link Function#safeApplyOn}
+		 * gives; {@link #matches(Object)} then answers {@code false} and
+		 * {@link #hasFailed()} tells the two apart.
+		 */
+		private static final class PredicateEvaluation<A> {
+			private final Predicate<A> predicate;
+			private String failureMessage;
+
+			private PredicateEvaluation(final Predicate<A> predicate) {
+				this.predicate = predicate;
+			}
+
+			private boolean matches(final A element) {
+				if (element == null) {
+					failureMessage = If.formatErrorMessageForNullValue("argument");
+					return false;
+				}
+				try {
+					final var answer = predicate.apply(element);
+					if (answer != null)
+						return answer;
+					failureMessage = CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage();
+				} catch (final Exception e) {
+					failureMessage = CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage();
+				}
+				return false;
+			}
+
+			private boolean hasFailed() {
+				return failureMessage != null;
+			}
+
+			private <B> Result<B> failure() {
+				return Result.failure(failureMessage);
+			}
+		}
+
+		private static final int SPLITERATOR_CHARACTERISTICS = java.util.Spliterator.ORDERED
+				| java.util.Spliterator.SIZED | java.util.Spliterator.SUBSIZED | java.util.Spliterator.IMMUTABLE
+				| java.util.Spliterator.NONNULL;
+
+		/**
+		 * Walks a {@link Cons} chain in place. A chain can only be split from its
+		 * front, so {@link #trySplit()} hands off an array of the next elements,
+		 * growing by {@link #BATCH_UNIT} on every split as the JDK does for iterators.
+		 */
+		private static final class ChainSpliterator<A> implements java.util.Spliterator<A> {
+			private static final int BATCH_UNIT = 1 << 10;
+			private static final int MAX_BATCH = 1 << 25;
+
+			private ListImp<A> current;
+			private int remaining;
+			private int batch;
+
+			private ChainSpliterator(final ListImp<A> list, final int size) {
+				this.current = list;
+				this.remaining = size;
+			}
+
+			@Override
+			public boolean tryAdvance(final Consumer<? super A> action) {
+				if (remaining == 0)
+					return false;
+				action.accept(current.firstElement());
+				current = current.restElements();
+				remaining--;
+				return true;
+			}
+
+			@Override
+			public void forEachRemaining(final Consumer<? super A> action) {
+				for (; remaining > 0; remaining--) {
+					action.accept(current.firstElement());
+					current = current.restElements();
+				}
+			}
+
+			@Override
+			public java.util.Spliterator<A> trySplit() {
+				if (remaining <= 1)
+					return null;
+				final var n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+				final var elements = new Object[n];
+				for (var i = 0; i < n; i++) {
+					elements[i] = current.firstElement();
+					current = current.restElements();
+				}
+				remaining -= n;
+				batch = n;
+				return java.util.Spliterators.spliterator(elements, 0, n, SPLITERATOR_CHARACTERISTICS);
+			}
+
+			@Override
+			public long estimateSize() {
+				return remaining;
+			}
+
+			@Override
+			public int characteristics() {
+				return SPLITERATOR_CHARACTERISTICS;
+			}
+		}
+
+		/**
+		 * Reads a {@link Vector} by position, so {@link #trySplit()} halves the range
+		 * without copying anything.
+		 */
+		private static final class IndexedSpliterator<A> implements java.util.Spliterator<A> {
+			private final java.util.function.IntFunction<A> elementAt;
+			private int index;
+			private final int fence;
+
+			private IndexedSpliterator(final java.util.function.IntFunction<A> elementAt, final int index,
+					final int fence) {
+				this.elementAt = elementAt;
+				this.index = index;
+				this.fence = fence;
+			}
+
+			@Override
+			public boolean tryAdvance(final Consumer<? super A> action) {
+				if (index >= fence)
+					return false;
+				action.accept(elementAt.apply(index++));
+				return true;
+			}
+
+			@Override
+			public void forEachRemaining(final Consumer<? super A> action) {
+				for (; index < fence; index++)
+					action.accept(elementAt.apply(index));
+			}
+
+			@Override
+			public java.util.Spliterator<A> trySplit() {
+				final var middle = index + fence >>> 1;
+				if (index >= middle)
+					return null;
+				final var prefix = new IndexedSpliterator<>(elementAt, index, middle);
+				index = middle;
+				return prefix;
+			}
+
+			@Override
+			public long estimateSize() {
+				return fence - index;
+			}
 
+			@Override
+			public int characteristics() {
+				return SPLITERATOR_CHARACTERISTICS;
+			}
 		}
 
+		/**
+		 * Copies every nested list once into a growing buffer and builds the result
+		 * from it, instead of prepending the nested lists one by one; the size limit is
+		 * checked as the buffer grows, before anything past it is copied.
+		 */
 		@Override
 		public <B> Result<ListImp<B>> combineNestedLists(final Function<A, List<B>> elementTransformer) {
-			return this.foldRight(Result.success(ListImp.<B>emptyList()), element -> accResult -> {
-				if (accResult.isFailure())
-					return accResult;
-
-				final var transformed = elementTransformer.apply(element);
-				if (transformed == null) //
-					return null; // Same caveat here
-
-				if (transformed.getListResult().isFailure())
-					return Result.failure("elementTransformer in combineNestedLists produced a failure List instance.");//
+			final var sizePolicy = SizePolicy.global();
+			var buffer = new Object[size()];
+			var count = 0;
+			try {
+				for (var current = this; !current.isEmpty(); current = current.restElements()) {
+					final var transformed = elementTransformer.apply(current.firstElement());
+					if (transformed == null)
+						return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
 
-				return accResult.map(l -> l.cons(transformed.getListImpSource()));
+					if (!transformed.isProcessSuccess())
+						return Result.failure("elementTransformer in combineNestedLists produced a failure List instance.");//
 
-			}).flatMap(flatList -> {
-				final var totalSize = flatList.successValue().<Double>unsafeFoldLeft(0.0, acc -> x -> acc + 1);
-				if (totalSize > List.Errors.Constants.MAX_LIST_SIZE)
-					return List.Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.asResult();
+					final var nested = transformed.getListImpSource();
+					final var newCount = count + nested.size();
+					if (!sizePolicy.allows(newCount))
+						return Result.failure(sizePolicy.exceededMessage());
+					if (newCount > buffer.length)
+						buffer = java.util.Arrays.copyOf(buffer, Math.max(newCount, 2 * buffer.length));
 
-				return Result.success(flatList.successValue()); // Because we cons'ed in reverse order
-			});
+					for (var element = nested; !element.isEmpty(); element = element.restElements())
+						buffer[count++] = element.firstElement();
+				}
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			return Result.success(fromBuffer(buffer, count));
 		}
 
 		// we always must keep the modifier "private"
@@ -2569,63 +4531,112 @@ public final class List<A> implements //
 
 			@Override
 			public ListImp<Boolean> booleanList(final boolean... booleans) {
-				return generateRange(0, booleans.length).unsafeMap(i -> booleans[i]);
+				return fromIndices(booleans.length, i -> booleans[i]);
 			}
 
 			@Override
 			public ListImp<Byte> byteList(final byte... bytes) {
-				return generateRange(0, bytes.length).unsafeMap(i -> bytes[i]);
+				return fromIndices(bytes.length, i -> bytes[i]);
 			}
 
 			@Override
 			public ListImp<Integer> intList(final int... ints) {
-				return generateRange(0, ints.length).unsafeMap(i -> ints[i]);
+				return fromIndices(ints.length, i -> ints[i]);
 			}
 
 			@Override
 			public ListImp<Character> charList(final char... chars) {
-				return generateRange(0, chars.length).unsafeMap(i -> chars[i]);
-
+				return fromIndices(chars.length, i -> chars[i]);
 			}
 
 			@Override
 			public ListImp<Short> shortList(final short... shorts) {
-				return generateRange(0, shorts.length).unsafeMap(i -> shorts[i]);
-
+				return fromIndices(shorts.length, i -> shorts[i]);
 			}
 
 			@Override
 			public ListImp<Float> floatList(final float... floats) {
-				return generateRange(0, floats.length).unsafeMap(i -> floats[i]);
-
+				return fromIndices(floats.length, i -> floats[i]);
 			}
 
 			@Override
 			public ListImp<Double> doubleList(final double... doubles) {
-				return generateRange(0, doubles.length).unsafeMap(i -> doubles[i]);
-
+				return fromIndices(doubles.length, i -> doubles[i]);
 			}
 
 			@Override
 			public ListImp<Long> longList(final long... longs) {
-				return generateRange(0, longs.length).unsafeMap(i -> longs[i]);
+				return fromIndices(longs.length, i -> longs[i]);
+			}
+
+			/**
+			 * Builds the chain from its last element, so every element costs exactly one
+			 * {@link Cons} cell and no intermediate list is allocated.
+			 */
+			private static <T> ListImp<T> fromIndices(final int length,
+					final java.util.function.IntFunction<T> elementAt) {
+				ListImp<T> result = emptyList();
+				for (var i = length - 1; i >= 0; i--)
+					result = result.cons(elementAt.apply(i));
+				return result;
 			}
 
+			/**
+			 * A {@link java.util.List} is read backwards through its list iterator, any
+			 * other collection through a single {@code toArray} copy. Null elements fail
+			 * the build with their indexes, as in {@link List#list(Object...)}.
+			 */
 			@SuppressWarnings("unchecked")
 			@Override
-			public <T> ListImp<T> fromCollection(final Collection<T> ct) {
+			public <T> Result<ListImp<T>> fromCollection(final Collection<T> ct) {
+				ListImp<T> result = emptyList();
+				// found from the last index down
+				final var nullIndexes = new ArrayList<Integer>(0);
+				if (ct instanceof final java.util.List<T> list) {
+					for (final var iterator = list.listIterator(list.size()); iterator.hasPrevious();) {
+						final var index = iterator.previousIndex();
+						final var element = iterator.previous();
+						if (element == null)
+							nullIndexes.add(index);
+						result = result.cons(element);
+					}
+				} else {
+					final var elements = ct.toArray();
+					for (var i = elements.length - 1; i >= 0; i--) {
+						if (elements[i] == null)
+							nullIndexes.add(i);
+						result = result.cons((T) elements[i]);
+					}
+				}
+				if (nullIndexes.isEmpty())
+					return Result.success(result);
 
-				return If.givenObject(ct)//
-						.is(Collection::isEmpty)//
-						.will()//
-						.returnValue(ListImp::emptyList)//
-						.orGet(() -> ListImp.list(ct.toArray()))//
-						.unsafeMap(o -> (T) o);//
+				java.util.Collections.reverse(nullIndexes);
+				return Result.failure((nullIndexes.size() == 1 //
+						? NullValueMessages.singleNullIndex(nullIndexes.toString())
+						: NullValueMessages.multipleNullIndexes(nullIndexes.toString())).getMessage());
 			}
 
+			@SuppressWarnings("unchecked")
 			@Override
 			public <T> ListImp<T> fromJavaStreamUtil(final Stream<T> stream) {
-				return this.fromCollection(stream.toList());
+				final var elements = stream.toArray();
+				return fromIndices(elements.length, i -> (T) elements[i]);
+			}
+
+			@Override
+			public <T> ListImp<T> indexedCopyOf(final ListImp<T> list) {
+				return Vector.copyOf(list);
+			}
+
+			@Override
+			public <T> ListImp<T> compactCopyOf(final ListImp<T> list) {
+				return UnrolledCell.copyOf(list);
+			}
+
+			@Override
+			public <T> ListImp<T> internedCopyOf(final ListImp<T> list) {
+				return InternTable.intern(list);
 			}
 
 			@Override
@@ -2659,17 +4670,18 @@ public final class List<A> implements //
 			}
 
 			@Override
-			public <A, S> Result<ListImp<A>> unfold(final S seed, final Function<S, Result<Tuple2<A, S>>> generator) {
+			public <A, S> Result<ListImp<A>> unfold(final S seed, final Function<S, Result<Tuple2<A, S>>> generator,
+					final SizePolicy sizePolicy) {
 
 				try {
-					return unfoldUnchecked(seed, generator);
+					return unfoldUnchecked(seed, generator, sizePolicy);
 				} catch (final Exception e) {
 					return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
 				}
 			}
 
 			private <A, S> Result<ListImp<A>> unfoldUnchecked(final S seed,
-					final Function<S, Result<Tuple2<A, S>>> generator) {
+					final Function<S, Result<Tuple2<A, S>>> generator, final SizePolicy sizePolicy) {
 				ListImp<A> result = emptyList();
 				var state = seed;
 				var count = 0;
@@ -2688,8 +4700,8 @@ public final class List<A> implements //
 					state = tupleResult.successValue().value();
 
 					count++;
-					if (count > List.Errors.Constants.MAX_LIST_SIZE)
-						return List.Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.asResult();
+					if (!sizePolicy.allows(count))
+						return Result.failure(sizePolicy.exceededMessage());
 				}
 
 				return Result.success(result.reverse());
@@ -2711,9 +4723,20 @@ public final class List<A> implements //
 				return Tuple2.of(acc1.reverse(), acc2.reverse()).getResult().successValue();
 			}
 
+			// the supplier is called in element order, so the elements wait in one array
 			@Override
 			public <A> Result<ListImp<A>> fill(final int n, final Supplier<A> s) {
-				return generateRange(0, n).map(ignore -> s.get());
+				final var elements = new Object[n];
+				try {
+					for (var i = 0; i < n; i++) {
+						elements[i] = s.get();
+						if (elements[i] == null)
+							return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+					}
+				} catch (final Exception e) {
+					return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+				}
+				return Result.success(fromBuffer(elements, n));
 			}
 
 		}
@@ -2766,6 +4789,11 @@ public final class List<A> implements //
 					item -> stream -> stream.cons(item));
 		}
 
+		@Override
+		public java.util.Spliterator<A> spliterator() {
+			return new ChainSpliterator<>(this, size());
+		}
+
 		@Override
 		public dev.ofekmalka.core.data_structure.set.Set<A> toSet() {
 			return unsafeFoldLeft(Set.<A>emptySet(), set -> item -> set.insert(item));
@@ -2773,17 +4801,30 @@ public final class List<A> implements //
 
 		@Override
 		public boolean hasDuplicatedElements() {
-			return size() > this.toSet().cardinality().successValue();
+			final var seen = new java.util.HashSet<A>(hashIndexCapacity(size()));
+			for (var current = this; !current.isEmpty(); current = current.restElements())
+				if (!seen.add(current.firstElement()))
+					return true;
+			return false;
+		}
+
+		// a transient index, built once per call and sized so it never rehashes
+		private static int hashIndexCapacity(final int size) {
+			return (int) (size / 0.75f) + 1;
 		}
 
 		@Override
 		public boolean isPalindrome() {
-			return equals(this.reverse());
+			final var elementAt = indexedView();
+			for (int i = 0, j = size() - 1; i < j; i++, j--)
+				if (!Objects.equals(elementAt.apply(i), elementAt.apply(j)))
+					return false;
+			return true;
 		}
 
 		@Override
 		public boolean allEqual() {
-			return this.toSet().cardinality().successValue() <= 1;
+			return isEmpty() || restElements().allEqualTo(firstElement());
 		}
 
 ///**
@@ -2817,95 +4858,353 @@ public final class List<A> implements //
 //
 		@Override
 		public ListImp<A> distinct() {
-			final var identity = Tuple2.of(ListImp.<A>emptyList(), Set.<String>emptySet());
-			return this.unsafeFoldLeft(identity, acc -> element -> this.distinctOperation(acc, element))
-					.mapTo(Tuple2::state)//
-					.mapTo(ListImp::reverse)//
-					.getResult().successValue();//
-
+			final var size = size();
+			final var seen = new java.util.HashSet<A>(hashIndexCapacity(size));
+			final var buffer = new Object[size];
+			var count = 0;
+			for (var current = this; !current.isEmpty(); current = current.restElements()) {
+				final var element = current.firstElement();
+				if (seen.add(element))
+					buffer[count++] = element;
+			}
+			return count == size ? this : fromBuffer(buffer, count);
 		}
 
-		private OrGet<Tuple2<ListImp<A>, Set<String>>> distinctOperation(
-				final OrGet<Tuple2<ListImp<A>, Set<String>>> accumulator, final A element) {
-			final var elementRepresentation = element.toString();
-			final var condition = accumulator
+		/**
+		 * The subsets of the distinct elements, in the order of a binary counter whose
+		 * lowest bit is the first element: {@code [], [a], [b], [a, b], ...}.
+		 */
+		@Override
+		public dev.ofekmalka.tools.stream.Stream<List<A>> powerSet() {
+			final var elements = elementsOf(distinct());
+			return generate(new int[elements.length], bits -> {
+				var count = 0;
+				for (final var bit : bits)
+					count += bit;
+				final var positions = new int[count];
+				for (int i = 0, j = 0; j < count; i++)
+					if (bits[i] == 1)
+						positions[j++] = i;
+				return pick(elements, positions);
+			}, bits -> {
+				final var next = bits.clone();
+				for (var i = 0; i < next.length; i++) {
+					next[i] ^= 1;
+					if (next[i] == 1)
+						return Result.success(next);
+				}
+				return Result.empty();
+			});
+		}
 
-					.flatMapTo(t -> t.value().contains(elementRepresentation))//
-					.getResult().successValue();//
-			final var returnValue = accumulator;//
-			final var defaultValue = accumulator
+		// the k-element position sets in lexicographic order
+		@Override
+		public dev.ofekmalka.tools.stream.Stream<List<A>> combinations(final int k) {
+			final var elements = elementsOf(this);
+			final var n = elements.length;
+			if (k > n)
+				return dev.ofekmalka.tools.stream.Stream.emptyStream();
+
+			final var first = new int[k];
+			for (var i = 0; i < k; i++)
+				first[i] = i;
+			return generate(first, positions -> pick(elements, positions), positions -> {
+				for (var i = k - 1; i >= 0; i--)
+					if (positions[i] < n - k + i) {
+						final var next = positions.clone();
+						next[i]++;
+						for (var j = i + 1; j < k; j++)
+							next[j] = next[j - 1] + 1;
+						return Result.success(next);
+					}
+				return Result.empty();
+			});
+		}
 
-					.flatMapTo(t -> t.mapState(list -> list.cons(element)))//
-					.flatMapTo(t -> t.mapValue(set -> set.insert(elementRepresentation)))//
-			;//
+		// the orderings of the positions in lexicographic order, so equal elements repeat
+		@Override
+		public dev.ofekmalka.tools.stream.Stream<List<A>> permutations() {
+			final var elements = elementsOf(this);
+			final var first = new int[elements.length];
+			for (var i = 0; i < first.length; i++)
+				first[i] = i;
+			return generate(first, positions -> pick(elements, positions), positions -> {
+				var pivot = positions.length - 2;
+				while (pivot >= 0 && positions[pivot] > positions[pivot + 1])
+					pivot--;
+				if (pivot < 0)
+					return Result.empty();
+
+				final var next = positions.clone();
+				var successor = next.length - 1;
+				while (next[successor] < next[pivot])
+					successor--;
+				swap(next, pivot, successor);
+				for (int i = pivot + 1, j = next.length - 1; i < j; i++, j--)
+					swap(next, i, j);
+				return Result.success(next);
+			});
+		}
 
-			return If.isItTrue(condition)//
-					.will()//
-					.returnValue(() -> returnValue)//
-					.orGet(() -> defaultValue);//
-		}//
+		@SuppressWarnings("unchecked")
+		@Override
+		public <B> dev.ofekmalka.tools.stream.Stream<Tuple2<A, B>> cartesianProduct(final ListImp<B> joinedList) {
+			final var left = elementsOf(this);
+			final var right = elementsOf(joinedList);
+			if (left.length == 0 || right.length == 0)
+				return dev.ofekmalka.tools.stream.Stream.emptyStream();
+
+			return generate(new int[2], pair -> Tuple2.of((A) left[pair[0]], (B) right[pair[1]]).getResult().successValue(),
+					pair -> {
+						if (pair[1] + 1 < right.length)
+							return Result.success(new int[] { pair[0], pair[1] + 1 });
+						if (pair[0] + 1 < left.length)
+							return Result.success(new int[] { pair[0] + 1, 0 });
+						return Result.empty();
+					});
+		}
 
 		/**
-		 * The power set of a set S is the set of all subsets of S. [28] The empty set
-		 * and S itself are elements of the power set of S, because these are both
-		 * subsets of S. For example, the power set of {1, 2, 3} is {∅, {1}, {2}, {3},
-		 * {1, 2}, {1, 3}, {2, 3}, {1, 2, 3}}. The power set of a set S is commonly
-		 * written as P(S) or 2S. If S has n elements, then P(S) has 2^n elements. For
-		 * example, {1, 2, 3} has three elements, and its power set has 2^3 = 8
-		 * elements, as shown above.
-		 *
+		 * A lazy family driven by an index array: {@code next} answers the array after
+		 * the given one, or an empty result after the last. Arrays are never changed
+		 * once handed out, since a stream may compute a step more than once.
 		 */
+		private static <B> dev.ofekmalka.tools.stream.Stream<B> generate(final int[] first,
+				final Function<int[], B> valueOf, final Function<int[], Result<int[]>> next) {
+			return dev.ofekmalka.tools.stream.Stream.unfoldUntilEmpty(Result.success(first),
+					indexes -> indexes.flatMap(
+							current -> Tuple2.of(valueOf.apply(current), next.apply(current)).getResult()));
+		}
 
-		@Override
 		@SuppressWarnings("unchecked")
-		public ListImp<ListImp<A>> subLists() {
-
-			final var distinctArray = (A[]) this
+		private static <B> List<B> pick(final Object[] elements, final int[] positions) {
+			ListImp<B> result = emptyList();
+			for (var i = positions.length - 1; i >= 0; i--)
+				result = result.cons((B) elements[positions[i]]);
+			return List.makeTypeSafe(result);
+		}
 
-					.distinct()
+		private static void swap(final int[] positions, final int i, final int j) {
+			final var position = positions[i];
+			positions[i] = positions[j];
+			positions[j] = position;
+		}
 
-					.toJavaList(java.util.ArrayList::new).successValue()
+		@Override
+		public ListImp<A> shuffle(final RandomGenerator random) {
+			return sample(size(), random);
+		}
 
-					.toArray();
+		/**
+		 * Fisher-Yates stopped after {@code k} steps: position {@code i} is final once
+		 * it has been swapped with a random position at or after it, so the first
+		 * {@code k} positions are a uniform sample.
+		 */
+		@Override
+		public ListImp<A> sample(final int k, final RandomGenerator random) {
+			final var elements = elementsOf(this);
+			final var count = Math.min(k, elements.length);
+			for (var index = 0; index < count; index++) {
+				final var other = index + random.nextInt(elements.length - index);
+				final var element = elements[index];
+				elements[index] = elements[other];
+				elements[other] = element;
+			}
+			return fromBuffer(elements, count);
+		}
 
-			final var numberOfSubsets = 1 << distinctArray.length;// 2^n
+		/**
+		 * Efraimidis-Spirakis: every element draws the key {@code log(u) / weight} and
+		 * the {@code k} largest keys win. {@code u} is taken from {@code (0, 1]} so
+		 * that no key is {@code -Infinity}. A min-heap of the winners so far means an
+		 * element only costs an allocation when it beats one of them.
+		 */
+		@Override
+		public Result<ListImp<A>> weightedSample(final int k, final Function<A, Double> weight,
+				final RandomGenerator random) {
+			final var count = Math.min(k, size());
+			final var winners = new java.util.PriorityQueue<WeightedKey<A>>(Math.max(count, 1),
+					java.util.Comparator.comparingDouble(WeightedKey::key));
+			try {
+				for (var current = this; !current.isEmpty(); current = current.restElements()) {
+					final var element = current.firstElement();
+					final var elementWeight = weight.apply(element);
+					if (elementWeight == null)
+						return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+					if (!(elementWeight > 0) || elementWeight.isInfinite())
+						return Result.failure(GeneralMessage.ERROR_INVALID_WEIGHT.getMessage());
+
+					final var key = Math.log(1.0 - random.nextDouble()) / elementWeight;
+					if (winners.size() < count)
+						winners.add(new WeightedKey<>(key, element));
+					else if (key > winners.peek().key()) {
+						winners.poll();
+						winners.add(new WeightedKey<>(key, element));
+					}
+				}
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			// the heap hands the winners back lowest key first
+			ListImp<A> result = emptyList();
+			while (!winners.isEmpty())
+				result = result.cons(winners.poll().element());
+			return Result.success(result);
+		}
 
-			return staticMethod()//
-					.generateRange(0, numberOfSubsets)//
-					.<ListImp<A>>unsafeMap(i -> staticMethod()//
-							.generateRange(0, distinctArray.length)//
-							.unsafeFilter(j -> (i & 1 << j) != 0)//
-							.unsafeMap(index -> distinctArray[index])//
-							.reverse()//
+		private record WeightedKey<A>(double key, A element) {
+		}
 
-					)
+		@Override
+		public Result<ListImp<A>> sortBy(final Comparator<A> comparator) {
+			final var elements = elementsOf(this);
+			try {
+				sortElements(elements, comparator);
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			return Result.success(fromBuffer(elements, elements.length));
+		}
 
-			;//
+		@Override
+		@SuppressWarnings("unchecked")
+		public <B extends Comparable<? super B>> Result<ListImp<A>> sortWith(final Function<A, B> keyExtractor) {
+			final var keyed = new Object[size()];
+			try {
+				var index = 0;
+				for (var current = this; !current.isEmpty(); current = current.restElements()) {
+					final var element = current.firstElement();
+					final var key = keyExtractor.apply(element);
+					if (key == null)
+						return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+					keyed[index++] = new KeyedElement<>(key, element);
+				}
+				sortElements(keyed, Comparator.comparing((final KeyedElement<B, A> pair) -> pair.key()));
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			ListImp<A> result = emptyList();
+			for (var i = keyed.length - 1; i >= 0; i--)
+				result = result.cons(((KeyedElement<B, A>) keyed[i]).element());
+			return Result.success(result);
+		}
 
+		private record KeyedElement<B, A>(B key, A element) {
 		}
 
+		/**
+		 * A max-heap of the positions of the {@code k} smallest elements so far, ties
+		 * broken by position so that the result is the prefix of the stable sort. An
+		 * element that does not beat the largest of them costs one comparison.
+		 */
 		@Override
 		@SuppressWarnings("unchecked")
-		public ListImp<A> shuffle() {
-			// Convert the list to an array for shuffling
-			final var array = (A[]) this.toJavaList(java.util.ArrayList::new).successValue().toArray();
+		public Result<ListImp<A>> topK(final int k, final Comparator<A> comparator) {
+			final var elements = elementsOf(this);
+			final var count = Math.min(k, elements.length);
+			final Comparator<Integer> order = (first, second) -> {
+				final var byElement = comparator.compare((A) elements[first], (A) elements[second]);
+				return byElement != 0 ? byElement : Integer.compare(first, second);
+			};
+			final var smallest = new java.util.PriorityQueue<Integer>(Math.max(count, 1), order.reversed());
+			try {
+				for (var index = 0; index < elements.length; index++)
+					if (smallest.size() < count)
+						smallest.add(index);
+					else if (order.compare(index, smallest.peek()) < 0) {
+						smallest.poll();
+						smallest.add(index);
+					}
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
+			// the heap hands the positions back largest first
+			ListImp<A> result = emptyList();
+			while (!smallest.isEmpty())
+				result = result.cons((A) elements[smallest.poll()]);
+			return Result.success(result);
+		}
 
-			// Create a new RNG for generating random indices
-			final var rng = new SecureRandom();
+		@Override
+		public Result<A> minBy(final Comparator<A> comparator) {
+			return firstSmallest(comparator, Errors.EmptyListMessage.ERROR_MIN_BY_IN_EMPTY_LIST);
+		}
 
-			return this.zipWithPosition().map(tuple -> {
-				// Generate a random index between 0 and i (inclusive)
+		@Override
+		public Result<A> maxBy(final Comparator<A> comparator) {
+			return firstSmallest(comparator.reversed(), Errors.EmptyListMessage.ERROR_MAX_BY_IN_EMPTY_LIST);
+		}
 
-				final var index = tuple.value();
-				final var j = rng.nextInt(index + 1);
+		/**
+		 * Copies every window but the one that reaches the end of the list, which is
+		 * that suffix itself. When the step is not shorter than the window the walk
+		 * carries on from where the copy stopped, so every cell is visited once.
+		 */
+		@Override
+		public ListImp<List<A>> sliding(final int n, final int step) {
+			if (isEmpty())
+				return emptyList();
+			final var windows = new Object[(size() - 1) / step + 1];
+			final var buffer = new Object[Math.min(n, size())];
+			var count = 0;
+			ListImp<A> current = this;
+			var remaining = size();
+			while (remaining > n) {
+				var cell = current;
+				for (var i = 0; i < n; i++) {
+					buffer[i] = cell.firstElement();
+					cell = cell.restElements();
+				}
+				windows[count++] = List.makeTypeSafe(ListImp.<A>fromBuffer(buffer, n));
+				if (remaining <= step)
+					return fromBuffer(windows, count);
+				if (step < n)
+					cell = current;
+				for (var i = step < n ? 0 : n; i < step; i++)
+					cell = cell.restElements();
+				current = cell;
+				remaining -= step;
+			}
+			windows[count++] = List.makeTypeSafe(current);
+			return fromBuffer(windows, count);
+		}
 
-				// Swap array[i] and array[j]
-				final var temp = array[index];
-				array[index] = array[j];
-				array[j] = temp;
+		@Override
+		public Result<ListImp<List<A>>> splitEvery(final Predicate<A> predicate) {
+			if (isEmpty())
+				return Result.success(emptyList());
+			final var evaluation = new PredicateEvaluation<>(predicate);
+			final var groups = new Object[size()];
+			final var buffer = new Object[size()];
+			var groupCount = 0;
+			var bufferCount = 0;
+			ListImp<A> groupStart = this;
+			for (ListImp<A> current = this; !current.isEmpty(); current = current.restElements()) {
+				final var element = current.firstElement();
+				if (evaluation.matches(element) && bufferCount > 0) {
+					groups[groupCount++] = List.makeTypeSafe(ListImp.<A>fromBuffer(buffer, bufferCount));
+					bufferCount = 0;
+					groupStart = current;
+				} else if (evaluation.hasFailed())
+					return evaluation.failure();
+				buffer[bufferCount++] = element;
+			}
+			groups[groupCount++] = List.makeTypeSafe(groupStart);
+			return Result.success(fromBuffer(groups, groupCount));
+		}
 
-				return array[index];
-			}).successValue();
+		private Result<A> firstSmallest(final Comparator<A> comparator, final ErrorOptions emptyListMessage) {
+			if (isEmpty())
+				return Result.failure(emptyListMessage.getMessage());
+			try {
+				var smallest = firstElement();
+				for (var current = restElements(); !current.isEmpty(); current = current.restElements())
+					if (comparator.compare(current.firstElement(), smallest) < 0)
+						smallest = current.firstElement();
+				return Result.success(smallest);
+			} catch (final Exception e) {
+				return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+			}
 		}
 
 		@Override
@@ -2988,16 +5287,15 @@ public final class List<A> implements //
 		public Result<ListImp<A>> takeWhile(final Predicate<A> predicate) {
 
 			ListImp<A> result = ListImp.emptyList();
+			final var evaluation = new PredicateEvaluation<>(predicate);
 			var current = this;
 
 			while (!current.isEmpty()) {
 				final var firstElement = current.firstElement();
 
-				final var predicateResult = predicate.safeApplyOn(firstElement);
-				if (predicateResult.isFailure())
-					return predicateResult.mapFailureForOtherObject();
-
-				if (!predicateResult.successValue()) {
+				if (!evaluation.matches(firstElement)) {
+					if (evaluation.hasFailed())
+						return evaluation.failure();
 					break;
 				}
 
@@ -3011,16 +5309,15 @@ public final class List<A> implements //
 		@Override
 		public Result<ListImp<A>> dropWhile(final Predicate<A> predicate) {
 
+			final var evaluation = new PredicateEvaluation<>(predicate);
 			var current = this;
 
 			while (!current.isEmpty()) {
 				final var firstElement = current.firstElement();
 
-				final var predicateResult = predicate.safeApplyOn(firstElement);
-				if (predicateResult.isFailure())
-					return predicateResult.mapFailureForOtherObject();
-
-				if (!predicateResult.successValue()) {
+				if (!evaluation.matches(firstElement)) {
+					if (evaluation.hasFailed())
+						return evaluation.failure();
 					break;
 				}
 
@@ -3043,22 +5340,21 @@ public final class List<A> implements //
 
 		@Override
 		public Result<ListImp<A>> takeRightWhile(final Predicate<A> predicate) {
-			return this.reverse()//
-					.takeWhile(predicate)//
-					.map(ListImp::reverse);
-
+			return this.countTrailingMatches(predicate).map(this::takeRightAtMost);
 		}
 
 		@Override
 		public Result<ListImp<A>> dropRightWhile(final Predicate<A> predicate) {
+			return this.countTrailingMatches(predicate).map(this::dropRightAtMost);
+		}
 
-			final var optionIndex = this.takeRightWhile(predicate).map(ListImp::size);//
-
-			if (optionIndex.isNotSuccess())//
-
-				return optionIndex.mapFailureForOtherObject();//
-			return success(this.dropRightAtMost(optionIndex.successValue()));//
-
+		private Result<Integer> countTrailingMatches(final Predicate<A> predicate) {
+			final var elementAt = indexedView();
+			final var evaluation = new PredicateEvaluation<>(predicate);
+			var index = size() - 1;
+			while (index >= 0 && evaluation.matches(elementAt.apply(index)))
+				index--;
+			return evaluation.hasFailed() ? evaluation.failure() : Result.success(size() - 1 - index);
 		}
 
 		@Override
@@ -3067,13 +5363,31 @@ public final class List<A> implements //
 			return dropAtMost(from).takeAtMost(diff);
 		}
 
+		/**
+		 * Appending to a {@link Cons} chain has to copy the whole chain, so once it is
+		 * longer than a trie leaf it is copied into a {@link Vector} instead. The
+		 * vector appends into its tail, so every later {@code add} on the result only
+		 * pays for the appended elements and a chain of {@code addList} calls stays
+		 * linear.
+		 */
 		@Override
 		public ListImp<A> add(final ListImp<A> other) {
+			if (other.isEmpty())
+				return this;
+			if (this.isEmpty())
+				return other;
+			if (this.size() > Trie.WIDTH)
+				return Vector.copyOf(this).add(other);
 			return this.unsafeFoldRight(other, ele -> acc -> acc.cons(ele));
 		}
 
+		// only the prepended list is copied, this one is shared
 		@Override
 		public ListImp<A> cons(final ListImp<A> other) {
+			if (other.isEmpty())
+				return this;
+			if (this.isEmpty())
+				return other;
 			return other.unsafeFoldRight(this, ele -> acc -> acc.cons(ele));
 
 		}
@@ -3114,13 +5428,12 @@ public final class List<A> implements //
 		private <B> Result<ListImp<B>> scanRightUnchecked(final B identity,
 				final Function<A, Function<B, B>> accumulator) {
 
-			final var reversed = this.reverse();
+			final var elementAt = indexedView();
 			var result = ListImp.<B>emptyList().cons(identity);
 			var currentAcc = identity;
-			var current = reversed;
 
-			while (!current.isEmpty()) {
-				final var fn = accumulator.apply(current.firstElement());
+			for (var i = size() - 1; i >= 0; i--) {
+				final var fn = accumulator.apply(elementAt.apply(i));
 				if (fn == null)
 					return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
 
@@ -3130,7 +5443,6 @@ public final class List<A> implements //
 
 				result = result.cons(newAcc);
 				currentAcc = newAcc;
-				current = current.restElements();
 			}
 
 			return Result.success(result);
@@ -3153,7 +5465,6 @@ public final class List<A> implements //
 
 		@Override
 		public boolean isEqualsWithoutConsiderationOrder(final ListImp<A> otherList) {
-			// TODO find other alternative for using Java HashSet
 
 			if (otherList.size() != size())
 				return false;
@@ -3161,13 +5472,20 @@ public final class List<A> implements //
 			if (otherList == this)
 				return true;
 
-			return this.groupBy(s -> s)
-
-					.map(map -> map.mapValues(ListImp::size)).successValue()
-
-					.equals(otherList.groupBy(s -> s).map(map -> map.mapValues(ListImp::size)).successValue())//
-			;//
+			final var occurrences = new java.util.HashMap<A, Integer>(hashIndexCapacity(size()));
+			for (var current = this; !current.isEmpty(); current = current.restElements())
+				occurrences.merge(current.firstElement(), 1, Integer::sum);
 
+			for (var current = otherList; !current.isEmpty(); current = current.restElements()) {
+				final var remaining = occurrences.get(current.firstElement());
+				if (remaining == null)
+					return false;
+				if (remaining == 1)
+					occurrences.remove(current.firstElement());
+				else
+					occurrences.put(current.firstElement(), remaining - 1);
+			}
+			return occurrences.isEmpty();
 		}
 
 		// I want to consider an empty list as trivially satisfying the condition!.
@@ -3210,17 +5528,16 @@ public final class List<A> implements //
 		}
 
 		private Result<Tuple2<A, Integer>> findFirstElementWithItsIndex(final Predicate<A> predicate) {
+			final var evaluation = new PredicateEvaluation<>(predicate);
 			var current = this;
 			var index = 0;
 			while (!current.isEmpty()) {
 				final var element = current.firstElement();
 
-				final var predicateResult = predicate.safeApplyOn(element);
-				if (predicateResult.isFailure())
-					return predicateResult.mapFailureForOtherObject();
-
-				if (predicate.matches(element))
+				if (evaluation.matches(element))
 					return Tuple2.of(element, index).getResult();
+				if (evaluation.hasFailed())
+					return evaluation.failure();
 				current = current.restElements();
 				index++;
 			}
@@ -3235,16 +5552,15 @@ public final class List<A> implements //
 		@Override
 		public Result<A> first(final Predicate<A> predicate, final String messageWhenElementNotFound) {
 
+			final var evaluation = new PredicateEvaluation<>(predicate);
 			var current = this;
 			while (!current.isEmpty()) {
 				final var element = current.firstElement();
 
-				final var predicateResult = predicate.safeApplyOn(element);
-				if (predicateResult.isFailure())
-					return predicateResult.mapFailureForOtherObject();
-
-				if (predicate.matches(element))
+				if (evaluation.matches(element))
 					return Result.success(element);
+				if (evaluation.hasFailed())
+					return evaluation.failure();
 				current = current.restElements();
 			}
 			return Errors.GeneralMessage.ERROR_ELEMENT_NOT_FOUND.asResult();
@@ -3330,7 +5646,7 @@ public final class List<A> implements //
 		}
 
 		public <B> Result<Map<B, List<A>>> advancedGroupBy(final Function<A, B> f) {
-			Map<B, List<A>> grouped = Map.emptyMap();
+			final var grouped = Map.<B, List<A>>builder();
 
 			var current = this;
 
@@ -3341,56 +5657,30 @@ public final class List<A> implements //
 				if (result.isFailure())
 					return result.mapFailureForOtherObject();
 
-				final var key = result.successValue();
-				final var group = grouped.getOptionally(key).getOrElse(List.emptyList());
-				grouped = grouped.add(key, group.cons(element));
+				grouped.update(result.successValue(), List.emptyList(), group -> group.cons(element));
 
 				current = current.restElements();
 			}
 
-			return Result.success(grouped);
+			return grouped.build().asResult();
 		}
 
-		private <B> Result<Map<B, ListImp<A>>> groupBy(final Function<A, B> f) {
-
-			Map<B, ListImp<A>> grouped = Map.emptyMap();
-
-			var current = this;
-
-			while (!current.isEmpty()) {
-				final var element = current.firstElement();
-				final var result = f.safeApplyOn(element);
-
-				if (result.isFailure())
-					return result.mapFailureForOtherObject();
-
-				final var key = result.successValue();
-				final var group = grouped.getOptionally(key).getOrElse(ListImp.emptyList());
-				grouped = grouped.add(key, group.cons(element));
-
-				current = current.restElements();
-			}
-
-			return Result.success(grouped);
-
-		}
 
 		@Override
 		public Result<Tuple2<ListImp<A>, ListImp<A>>> partition(final Predicate<A> predicate) {
 			ListImp<A> matches = ListImp.emptyList();
 			ListImp<A> nonMatches = ListImp.emptyList();
 
+			final var evaluation = new PredicateEvaluation<>(predicate);
 			var current = this.reverse(); // for consing in correct order
 
 			while (!current.isEmpty()) {
 				final var element = current.firstElement();
-				final var predicateResult = predicate.safeApplyOn(element);
-
-				if (predicateResult.isFailure())
-					return predicateResult.mapFailureForOtherObject();
 
-				if (predicateResult.successValue()) {
+				if (evaluation.matches(element)) {
 					matches = matches.cons(element);
+				} else if (evaluation.hasFailed()) {
+					return evaluation.failure();
 				} else {
 					nonMatches = nonMatches.cons(element);
 				}
@@ -3428,13 +5718,13 @@ public final class List<A> implements //
 
 		@Override
 		public Result<Boolean> anyMatch(final Predicate<A> predicate) {
+			final var evaluation = new PredicateEvaluation<>(predicate);
 			var current = this;
 			while (!current.isEmpty()) {
-				final var result = predicate.safeApplyOn(current.firstElement());
-				if (result.isFailure())
-					return result.mapFailureForOtherObject();
-				if (result.successValue())
+				if (evaluation.matches(current.firstElement()))
 					return Result.success(true);
+				if (evaluation.hasFailed())
+					return evaluation.failure();
 				current = current.restElements();
 			}
 			return Result.success(false);
@@ -3447,13 +5737,11 @@ public final class List<A> implements //
 
 		@Override
 		public Result<Boolean> allMatch(final Predicate<A> predicate) {
+			final var evaluation = new PredicateEvaluation<>(predicate);
 			var current = this;
 			while (!current.isEmpty()) {
-				final var result = predicate.safeApplyOn(current.firstElement());
-				if (result.isFailure())
-					return result.mapFailureForOtherObject();
-				if (Boolean.FALSE.equals(result.successValue()))
-					return Result.success(false);
+				if (!evaluation.matches(current.firstElement()))
+					return evaluation.hasFailed() ? evaluation.failure() : Result.success(false);
 				current = current.restElements();
 			}
 			return Result.success(true);
@@ -3512,19 +5800,151 @@ public final class List<A> implements //
 
 		@Override
 		public boolean hasSubList(final ListImp<A> sub) {
+			return sub.isEmpty() || indexOfSubList(sub).isSuccess();
+		}
+
+		@Override
+		public Result<Integer> indexOfSubList(final ListImp<A> sub) {
 			if (sub.isEmpty())
-				return true;
-			if (size() < sub.size())
+				return Result.success(0);
+
+			final var found = new int[] { -1 };
+			searchSubList(sub, index -> {
+				found[0] = index;
 				return false;
+			});
+			return found[0] < 0 //
+					? Result.failure(GeneralMessage.ERROR_SUB_LIST_NOT_FOUND.getMessage())//
+					: Result.success(found[0]);
+		}
 
-			var current = this;
-			while (!current.isEmpty()) {
-				if (current.startsWith(sub))
-					return true;
-				current = current.restElements();
+		@Override
+		public ListImp<Integer> allIndicesOfSubList(final ListImp<A> sub) {
+			final var indices = new java.util.ArrayList<Integer>();
+			searchSubList(sub, indices::add);
+			return fromBuffer(indices.toArray(), indices.size());
+		}
+
+		/**
+		 * Knuth-Morris-Pratt search for a non-empty {@code sub}: a mismatch may fall
+		 * back through the failure table several times on one element, but the
+		 * search makes at most 2n comparisons in total (amortized), so it costs
+		 * O(n + m) rather than O(n * m).
+		 *
+		 * @param onMatch receives the start index of every match, overlapping ones
+		 *                included, and answers whether to keep searching
+		 */
+		private void searchSubList(final ListImp<A> sub, final java.util.function.IntPredicate onMatch) {
+			if (size() < sub.size())
+				return;
+
+			final var pattern = elementsOf(sub);
+			final var fallback = failureTable(pattern);
+			var matched = 0;
+			var index = 0;
+			for (var current = this; !current.isEmpty(); current = current.restElements(), index++) {
+				final var element = current.firstElement();
+				while (matched > 0 && !pattern[matched].equals(element))
+					matched = fallback[matched - 1];
+				if (pattern[matched].equals(element))
+					matched++;
+				if (matched == pattern.length) {
+					if (!onMatch.test(index - matched + 1))
+						return;
+					matched = fallback[matched - 1];
+				}
 			}
+		}
 
-			return false;
+		// fallback[i] is the length of the longest proper prefix of pattern[0..i]
+		// that is also a suffix of it
+		private static int[] failureTable(final Object[] pattern) {
+			final var fallback = new int[pattern.length];
+			var length = 0;
+			for (var i = 1; i < pattern.length; i++) {
+				while (length > 0 && !pattern[i].equals(pattern[length]))
+					length = fallback[length - 1];
+				if (pattern[i].equals(pattern[length]))
+					length++;
+				fallback[i] = length;
+			}
+			return fallback;
+		}
+
+		private static final int INSERTION_SORT_RUN = 32;
+
+		/**
+		 * A stable merge sort in place: runs of {@value #INSERTION_SORT_RUN} elements
+		 * are insertion sorted, then merged bottom-up, each pass from one array into
+		 * the other, so the whole sort allocates a single scratch array. Two runs that
+		 * are already in order are copied without a merge.
+		 */
+		@SuppressWarnings("unchecked")
+		static <A> void sortElements(final Object[] elements, final Comparator<? super A> comparator) {
+			final var length = elements.length;
+			for (var start = 0; start < length; start += INSERTION_SORT_RUN) {
+				final var end = Math.min(start + INSERTION_SORT_RUN, length);
+				for (var i = start + 1; i < end; i++) {
+					final var element = elements[i];
+					var j = i - 1;
+					while (j >= start && comparator.compare((A) elements[j], (A) element) > 0) {
+						elements[j + 1] = elements[j];
+						j--;
+					}
+					elements[j + 1] = element;
+				}
+			}
+			if (length <= INSERTION_SORT_RUN)
+				return;
+
+			var from = elements;
+			var to = new Object[length];
+			for (var width = INSERTION_SORT_RUN; width < length; width *= 2) {
+				for (var low = 0; low < length; low += 2 * width) {
+					final var middle = Math.min(low + width, length);
+					final var high = Math.min(low + 2 * width, length);
+					merge(from, to, low, middle, high, comparator);
+				}
+				final var swap = from;
+				from = to;
+				to = swap;
+			}
+			if (from != elements)
+				System.arraycopy(from, 0, elements, 0, length);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <A> void merge(final Object[] from, final Object[] to, final int low, final int middle,
+				final int high, final Comparator<? super A> comparator) {
+			if (middle >= high || comparator.compare((A) from[middle - 1], (A) from[middle]) <= 0) {
+				System.arraycopy(from, low, to, low, high - low);
+				return;
+			}
+			var left = low;
+			var right = middle;
+			var index = low;
+			// ties take the left element, which keeps the sort stable
+			while (left < middle && right < high)
+				to[index++] = comparator.compare((A) from[right], (A) from[left]) < 0 ? from[right++] : from[left++];
+			System.arraycopy(from, left, to, index, middle - left);
+			System.arraycopy(from, right, to, index + middle - left, high - right);
+		}
+
+		static Object[] elementsOf(final ListImp<?> list) {
+			final var elements = new Object[list.size()];
+			if (list instanceof final Vector<?> vector) {
+				for (var i = 0; i < elements.length; i++)
+					elements[i] = vector.get(i);
+				return elements;
+			}
+			if (list instanceof final UnrolledCell<?> cell) {
+				UnrolledCell.copyElements(cell, elements);
+				return elements;
+			}
+			var index = 0;
+			for (ListImp<?> current = list; !current.isEmpty(); current = current.restElements())
+				elements[index++] = current.firstElement();
+			return elements;
 		}
 
 	}
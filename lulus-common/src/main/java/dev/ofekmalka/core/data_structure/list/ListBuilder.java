@@ -0,0 +1,144 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import dev.ofekmalka.core.data_structure.list.List.Errors;
+import dev.ofekmalka.core.error.NullValueMessages;
+import dev.ofekmalka.tools.helper.ErrorTracker;
+
+/**
+ * A transient buffer for building a {@link List} one element at a time:
+ * appending and prepending are amortized O(1), where {@code addElement} copies
+ * the whole list, and {@link #build()} links the elements into an immutable
+ * list in one pass.
+ * <p>
+ * {@link #build()} freezes the builder, and every later change fails it, so
+ * nothing done through a builder can reach a list it has published. A failed
+ * builder ignores further changes and builds a failed list that carries the
+ * first failure. A builder belongs to one owner at a time.
+ */
+public final class ListBuilder<A> {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private Object[] buffer = new Object[INITIAL_CAPACITY];
+	// the elements are buffer[start, end), so that prepending does not shift them
+	private int start;
+	private int end;
+	private boolean frozen;
+	// the first failure, already traced; null while every change succeeded
+	private String failureMessage;
+
+	ListBuilder() {
+	}
+
+	public ListBuilder<A> append(final A element) {
+		if (canChange("append", element, "element") && fits("append", 1)) {
+			if (end == buffer.length)
+				makeRoom(1, false);
+			buffer[end++] = element;
+		}
+		return this;
+	}
+
+	public ListBuilder<A> appendAll(final List<A> list) {
+		if (!canChange("appendAll", list, "list"))
+			return this;
+		if (list.isProcessFail()) {
+			fail("appendAll", Errors.CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST.withArgumentName("list")
+					.getMessage());
+			return this;
+		}
+		final var elements = list.elementsAsArray();
+		if (fits("appendAll", elements.length)) {
+			if (buffer.length - end < elements.length)
+				makeRoom(elements.length, false);
+			System.arraycopy(elements, 0, buffer, end, elements.length);
+			end += elements.length;
+		}
+		return this;
+	}
+
+	public ListBuilder<A> prepend(final A element) {
+		if (canChange("prepend", element, "element") && fits("prepend", 1)) {
+			if (start == 0)
+				makeRoom(1, true);
+			buffer[--start] = element;
+		}
+		return this;
+	}
+
+	public int size() {
+		return end - start;
+	}
+
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	public boolean isProcessSuccess() {
+		return Objects.isNull(failureMessage);
+	}
+
+	/**
+	 * Freezes the builder and links its elements into a list.
+	 */
+	public List<A> build() {
+		if (!isProcessSuccess())
+			return List.failureWithMessage(failureMessage);
+		frozen = true;
+		return List.linkedFromElements(buffer, start, end);
+	}
+
+	// makes room for needed more elements on one side. While the buffer is at most
+	// half full the elements are re-centred in it, and otherwise it doubles, or more
+	// when that is not enough; either way the free room is split between both
+	// sides, so that alternating appends and prepends do not grow it again at once
+	private void makeRoom(final int needed, final boolean inFront) {
+		final var size = size();
+		final var required = (long) size + needed;
+		final var capacity = required * 2 <= buffer.length ? buffer.length
+				: (int) Math.min(Math.max(buffer.length * 2L, required * 2), Integer.MAX_VALUE - 8);
+		final var newStart = (int) ((capacity - required) / 2) + (inFront ? needed : 0);
+		if (capacity == buffer.length) {
+			System.arraycopy(buffer, start, buffer, newStart, size);
+			// clears the slots the elements left, so the buffer does not keep them alive
+			if (newStart > start)
+				Arrays.fill(buffer, start, Math.min(end, newStart), null);
+			else
+				Arrays.fill(buffer, Math.max(start, newStart + size), end, null);
+		} else {
+			final var grown = new Object[capacity];
+			System.arraycopy(buffer, start, grown, newStart, size);
+			buffer = grown;
+		}
+		start = newStart;
+		end = newStart + size;
+	}
+
+	private boolean canChange(final String operation, final Object argument, final String argumentName) {
+		if (!isProcessSuccess())
+			return false;
+		if (frozen)
+			fail(operation, Errors.GeneralMessage.ERROR_BUILDER_FROZEN.getMessage());
+		else if (Objects.isNull(argument))
+			fail(operation, NullValueMessages.argument(argumentName).getMessage());
+		else
+			return true;
+		return false;
+	}
+
+	// a long, so that the sum cannot overflow
+	private boolean fits(final String operation, final long added) {
+		if (SizePolicy.global().allows(size() + added))
+			return true;
+		fail(operation, SizePolicy.global().exceededMessage());
+		return false;
+	}
+
+	private void fail(final String operation, final String message) {
+		failureMessage = ErrorTracker.startTrackingFrom(operation).finalizeWith(message);
+	}
+
+}
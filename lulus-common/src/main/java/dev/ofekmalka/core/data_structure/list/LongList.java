@@ -0,0 +1,211 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import static dev.ofekmalka.core.assertion.PreconditionedProcess.from;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List.Errors;
+import dev.ofekmalka.core.data_structure.list.behavior.PrimitiveListBehavior;
+import dev.ofekmalka.core.function.CheckedOperation;
+
+/**
+ * An immutable list of {@code long} values packed into one array, for numeric
+ * work that should not pay for a boxed {@link Long} and a list cell per
+ * element. Like {@link List}, every operation returns a {@link Result} or an
+ * {@code LongList} that carries the failure on.
+ */
+public final class LongList implements PrimitiveListBehavior.OfLong {
+
+	private final Result<long[]> source;
+
+	private LongList(final Result<long[]> source) {
+		this.source = source;
+	}
+
+	private static LongList makeTypeSafe(final Result<long[]> source) {
+		return new LongList(source);
+	}
+
+	public static LongList failureWithMessage(final String message) {
+		return new LongList(Result.failure(message));
+	}
+
+	public static LongList of(final long... values) {
+		return LongList.makeTypeSafe(PrimitiveArrays.LONGS.of(values));
+	}
+
+	public static LongList fromList(final List<Long> list) {
+		return LongList.makeTypeSafe(PrimitiveArrays.LONGS.fromList(list));
+	}
+
+	public boolean isProcessSuccess() {
+		return source.isSuccess();
+	}
+
+	@Override
+	public Result<Integer> size() {
+		return PrimitiveArrays.LONGS.size(source);
+	}
+
+	@Override
+	public Result<Boolean> isEmpty() {
+		return PrimitiveArrays.LONGS.isEmpty(source);
+	}
+
+	@Override
+	public Result<Long> elementAt(final int index) {
+		return PrimitiveArrays.LONGS.elementAt(source, index);
+	}
+
+	@Override
+	public Result<Integer> indexOf(final long element) {
+		return from(source)//
+				.processOperationWithResult(values -> indexOf(values, element))//
+				.andMakeStackTraceUnderTheName("indexOf")//
+				.getResultProccess();
+	}
+
+	@Override
+	public <B> Result<B> foldLeft(final B identity, final PrimitiveListBehavior.LongAccumulator<B> accumulator) {
+		return from(source)//
+				.requireNonNull(identity, "identity", accumulator, "accumulator")//
+				.processOperationWithResult(values -> foldLeft(values, identity, accumulator))//
+				.andMakeStackTraceUnderTheName("foldLeft")//
+				.getResultProccess();
+	}
+
+	@Override
+	public Result<Long> reduce(final LongBinaryOperator operator) {
+		return from(source)//
+				.requireNonNull(operator, "operator")//
+				.processOperationWithResult(values -> reduce(values, operator))//
+				.andMakeStackTraceUnderTheName("reduce")//
+				.getResultProccess();
+	}
+
+	@Override
+	public Result<Long> sum() {
+		return from(source)//
+				.processOperationWithResult(LongList::sum)//
+				.andMakeStackTraceUnderTheName("sum")//
+				.getResultProccess();
+	}
+
+	@Override
+	public LongList map(final LongUnaryOperator mapper) {
+		return from(source)//
+				.requireNonNull(mapper, "mapper")//
+				.processOperationWithResult(values -> map(values, mapper))//
+				.andMakeStackTraceUnderTheName("map")//
+				.mapTo(LongList::makeTypeSafe);
+	}
+
+	@Override
+	public LongList filter(final LongPredicate predicate) {
+		return from(source)//
+				.requireNonNull(predicate, "predicate")//
+				.processOperationWithResult(values -> filter(values, predicate))//
+				.andMakeStackTraceUnderTheName("filter")//
+				.mapTo(LongList::makeTypeSafe);
+	}
+
+	@Override
+	public List<Long> toList() {
+		return PrimitiveArrays.LONGS.toList(source);
+	}
+
+	@Override
+	public Result<long[]> toArray() {
+		return PrimitiveArrays.LONGS.toArray(source);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return this == obj || obj instanceof final LongList other && PrimitiveArrays.LONGS.equal(source, other.source);
+	}
+
+	@Override
+	public int hashCode() {
+		return PrimitiveArrays.LONGS.hashCode(source);
+	}
+
+	@Override
+	public String toString() {
+		return PrimitiveArrays.LONGS.toString(source);
+	}
+
+	private static Result<Integer> indexOf(final long[] values, final long element) {
+		for (var i = 0; i < values.length; i++)
+			if (values[i] == element)
+				return Result.success(i);
+		return Result.failure(Errors.CastumValueMessage.ERROR_INDEX_OF_ELEMENT_NOT_FOUND.withValue(element).getMessage());
+	}
+
+	private static <B> Result<B> foldLeft(final long[] values, final B identity,
+			final PrimitiveListBehavior.LongAccumulator<B> accumulator) {
+		try {
+			var result = identity;
+			for (final var value : values) {
+				result = accumulator.apply(result, value);
+				if (result == null)
+					return Result.failure(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.getMessage());
+			}
+			return Result.success(result);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static Result<Long> reduce(final long[] values, final LongBinaryOperator operator) {
+		if (values.length == 0)
+			return Result.failure(Errors.EmptyListMessage.ERROR_REDUCE_IN_EMPTY_LIST.getMessage());
+		try {
+			var result = values[0];
+			for (var i = 1; i < values.length; i++)
+				result = operator.applyAsLong(result, values[i]);
+			return Result.success(result);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static Result<Long> sum(final long[] values) {
+		try {
+			var result = 0L;
+			for (final var value : values)
+				result = Math.addExact(result, value);
+			return Result.success(result);
+		} catch (final ArithmeticException e) {
+			return Result.failure(Errors.GeneralMessage.ERROR_SUM_OVERFLOW.getMessage());
+		}
+	}
+
+	private static Result<long[]> map(final long[] values, final LongUnaryOperator mapper) {
+		try {
+			final var mapped = new long[values.length];
+			for (var i = 0; i < values.length; i++)
+				mapped[i] = mapper.applyAsLong(values[i]);
+			return Result.success(mapped);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private static Result<long[]> filter(final long[] values, final LongPredicate predicate) {
+		try {
+			final var kept = new long[values.length];
+			var count = 0;
+			for (final var value : values)
+				if (predicate.test(value))
+					kept[count++] = value;
+			return Result.success(count == values.length ? kept : Arrays.copyOf(kept, count));
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,199 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import static dev.ofekmalka.core.assertion.PreconditionedProcess.from;
+
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+import dev.ofekmalka.core.assertion.If;
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List.Errors;
+import dev.ofekmalka.core.error.IndexErrorMessage;
+
+/**
+ * The array and {@link Result} plumbing that {@link IntList}, {@link LongList}
+ * and {@link DoubleList} share: an instance describes one primitive array type,
+ * and everything that does not depend on the element type is written here
+ * once. The operations that do, such as {@code sum} or {@code map}, stay in the
+ * lists themselves so that their loops run on the primitive values. The length
+ * and the element reads are passed in as well, so that no read goes through
+ * reflection.
+ */
+final class PrimitiveArrays<T, E> {
+
+	static final PrimitiveArrays<int[], Integer> INTS = new PrimitiveArrays<>("IntList", values -> values.length,
+			(values, index) -> values[index], int[]::clone, Arrays::equals, Arrays::hashCode,
+			PrimitiveArrays::boxInts, PrimitiveArrays::unboxInts);
+
+	static final PrimitiveArrays<long[], Long> LONGS = new PrimitiveArrays<>("LongList", values -> values.length,
+			(values, index) -> values[index], long[]::clone, Arrays::equals, Arrays::hashCode,
+			PrimitiveArrays::boxLongs, PrimitiveArrays::unboxLongs);
+
+	static final PrimitiveArrays<double[], Double> DOUBLES = new PrimitiveArrays<>("DoubleList",
+			values -> values.length, (values, index) -> values[index], double[]::clone, Arrays::equals,
+			Arrays::hashCode, PrimitiveArrays::boxDoubles, PrimitiveArrays::unboxDoubles);
+
+	private interface ElementReader<T, E> {
+		E read(T values, int index);
+	}
+
+	private final String className;
+	private final ToIntFunction<T> length;
+	private final ElementReader<T, E> element;
+	private final UnaryOperator<T> copy;
+	private final BiPredicate<T, T> equality;
+	private final ToIntFunction<T> hash;
+	private final Function<T, Object[]> box;
+	private final Function<Object[], T> unbox;
+
+	private PrimitiveArrays(final String className, final ToIntFunction<T> length, final ElementReader<T, E> element,
+			final UnaryOperator<T> copy, final BiPredicate<T, T> equality, final ToIntFunction<T> hash,
+			final Function<T, Object[]> box, final Function<Object[], T> unbox) {
+		this.className = className;
+		this.length = length;
+		this.element = element;
+		this.copy = copy;
+		this.equality = equality;
+		this.hash = hash;
+		this.box = box;
+		this.unbox = unbox;
+	}
+
+	Result<T> of(final T values) {
+		return If.givenObject(values)//
+				.isNonNull("values")//
+				.andIs(array -> SizePolicy.global().allows(length.applyAsInt(array)),
+						SizePolicy.global().exceededMessage())//
+				.will()//
+				.returnValue(() -> copy.apply(values))//
+				.getResult()//
+				.prependMethodNameToFailureMessage("of");
+	}
+
+	Result<T> fromList(final List<?> list) {
+		final var errorProcessingMessage = Errors.CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST
+				.withArgumentName("list").getMessage();
+
+		return If.givenObject(list)//
+				.isNonNull("list")//
+				.andIs(List::isProcessSuccess, errorProcessingMessage)//
+				.will()//
+				.returnValue(() -> unbox.apply(list.elementsAsArray()))//
+				.getResult()//
+				.prependMethodNameToFailureMessage("fromList");
+	}
+
+	Result<Integer> size(final Result<T> source) {
+		return from(source)//
+				.processOperation(length::applyAsInt)//
+				.andMakeStackTraceUnderTheName("size")//
+				.getResultProccess();
+	}
+
+	Result<Boolean> isEmpty(final Result<T> source) {
+		return from(source)//
+				.processOperation(values -> length.applyAsInt(values) == 0)//
+				.andMakeStackTraceUnderTheName("isEmpty")//
+				.getResultProccess();
+	}
+
+	Result<E> elementAt(final Result<T> source, final int index) {
+		return from(source)//
+				.checkCondition(values -> If.isItTrue(index >= 0 && index < length.applyAsInt(values), //
+						IndexErrorMessage//
+								.forIndex(index)//
+								.between(0)//
+								.toExclusive(length.applyAsInt(values)).getMessage()))//
+				.processOperation(values -> element.read(values, index))//
+				.andMakeStackTraceUnderTheName("elementAt")//
+				.getResultProccess();
+	}
+
+	List<E> toList(final Result<T> source) {
+		return from(source)//
+				.processOperation(box::apply)//
+				.andMakeStackTraceUnderTheName("toList")//
+				.mapTo(List::indexedFromElements);
+	}
+
+	Result<T> toArray(final Result<T> source) {
+		return from(source)//
+				.processOperation(copy::apply)//
+				.andMakeStackTraceUnderTheName("toArray")//
+				.getResultProccess();
+	}
+
+	boolean equal(final Result<T> source, final Result<T> otherSource) {
+		return source.isSuccess() && otherSource.isSuccess()
+				&& equality.test(source.successValue(), otherSource.successValue());
+	}
+
+	int hashCode(final Result<T> source) {
+		return source//
+				.map(hash::applyAsInt)//
+				.casesForProvidedHashCode()//
+				.onSuccess(t -> t)//
+				.onOtherOptionProvideClassName(className);
+	}
+
+	String toString(final Result<T> source) {
+		return If.isItTrue(source.isFailure())//
+				.will()//
+				.returnValue(() -> "It is in a failed state and cannot generate a valid representation for toString."
+						+ "\nPlease check the process status for more details.")//
+				.orGet(() -> represent(source.successValue()));
+	}
+
+	private String represent(final T values) {
+		final var builder = new StringBuilder("[");
+		for (final var value : box.apply(values))
+			builder.append(value).append(',');
+		return builder.append("NIL]").toString();
+	}
+
+	private static Object[] boxInts(final int[] values) {
+		final var elements = new Object[values.length];
+		for (var i = 0; i < values.length; i++)
+			elements[i] = values[i];
+		return elements;
+	}
+
+	private static Object[] boxLongs(final long[] values) {
+		final var elements = new Object[values.length];
+		for (var i = 0; i < values.length; i++)
+			elements[i] = values[i];
+		return elements;
+	}
+
+	private static Object[] boxDoubles(final double[] values) {
+		final var elements = new Object[values.length];
+		for (var i = 0; i < values.length; i++)
+			elements[i] = values[i];
+		return elements;
+	}
+
+	private static int[] unboxInts(final Object[] elements) {
+		final var values = new int[elements.length];
+		for (var i = 0; i < elements.length; i++)
+			values[i] = (Integer) elements[i];
+		return values;
+	}
+
+	private static long[] unboxLongs(final Object[] elements) {
+		final var values = new long[elements.length];
+		for (var i = 0; i < elements.length; i++)
+			values[i] = (Long) elements[i];
+		return values;
+	}
+
+	private static double[] unboxDoubles(final Object[] elements) {
+		final var values = new double[elements.length];
+		for (var i = 0; i < elements.length; i++)
+			values[i] = (Double) elements[i];
+		return values;
+	}
+
+}
@@ -0,0 +1,122 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import dev.ofekmalka.core.assertion.If;
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List.Errors;
+
+/**
+ * How many elements a {@link List}, and every structure whose size is checked
+ * against it, may hold. The default keeps
+ * {@link Errors.Constants#MAX_LIST_SIZE}; a policy built from a memory budget
+ * divides the budget by the estimated cost of one element, its list cell
+ * included.
+ * <p>
+ * {@link #global()} is checked by every list operation that grows a list, and
+ * {@code List.extendedFactoryOperations().withLimits(policy)} replaces it for
+ * the lists that factory builds. Sizes are checked as a list grows, before
+ * anything past the limit is built.
+ */
+public final class SizePolicy {
+
+	// a Cons cell: object header, element and rest references, length and hash code
+	static final int ESTIMATED_BYTES_PER_CELL = 32;
+
+	public static final SizePolicy DEFAULT = new SizePolicy(Errors.Constants.MAX_LIST_SIZE);
+
+	private static volatile SizePolicy global = DEFAULT;
+
+	private final int maxElements;
+	// built once, it is passed to every size check of the hot paths
+	private final String exceededMessage;
+
+	private SizePolicy(final int maxElements) {
+		this.maxElements = maxElements;
+		this.exceededMessage = maxElements == Errors.Constants.MAX_LIST_SIZE //
+				? Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage()
+				: Errors.CastumValueMessage.ERROR_SIZE_LIMIT_OF_POLICY_EXCEEDED
+						.withValue(String.format("%,d", maxElements)).getMessage();
+	}
+
+	public static Result<SizePolicy> ofMaxElements(final int maxElements) {
+		return If.givenObject(maxElements)//
+				.is(n -> n > 0, Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE//
+						.withArgumentName("maxElements").getMessage())//
+				.andIs(n -> n <= Errors.Constants.MAX_INDEX,
+						Errors.GeneralMessage.ERROR_SIZE_INDEX_EXCEEDED.getMessage())//
+				.will()//
+				.mapTo(SizePolicy::new)//
+				.getResult()//
+				.prependMethodNameToFailureMessage("ofMaxElements");
+	}
+
+	/**
+	 * @param budgetInBytes             the heap a single list may take
+	 * @param estimatedBytesPerElement the retained size of one element, not
+	 *                                 counting the list cell that holds it
+	 */
+	public static Result<SizePolicy> ofMemoryBudget(final long budgetInBytes, final int estimatedBytesPerElement) {
+		return If.givenObject(budgetInBytes)//
+				.is(n -> n > 0, Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE//
+						.withArgumentName("budgetInBytes").getMessage())//
+				.andSupplierIs(() -> estimatedBytesPerElement >= 0, Errors.CastumArgumentMessage.ERROR_NEGATIVE_VALUE//
+						.withArgumentName("estimatedBytesPerElement").getMessage())//
+				.andIs(n -> n >= ESTIMATED_BYTES_PER_CELL + estimatedBytesPerElement,
+						Errors.GeneralMessage.ERROR_MEMORY_BUDGET_TOO_SMALL.getMessage())//
+				.will()//
+				.mapTo(n -> new SizePolicy((int) Math.min(n / (ESTIMATED_BYTES_PER_CELL + estimatedBytesPerElement),
+						Errors.Constants.MAX_INDEX)))//
+				.getResult()//
+				.prependMethodNameToFailureMessage("ofMemoryBudget");
+	}
+
+	public static SizePolicy global() {
+		return global;
+	}
+
+	/**
+	 * Replaces the policy every list operation checks.
+	 *
+	 * @return the policy it replaced, so that it can be restored
+	 */
+	public static Result<SizePolicy> useGlobally(final SizePolicy policy) {
+		return If.givenObject(policy)//
+				.isNonNull("policy")//
+				.will()//
+				.returnValue(() -> {
+					final var previous = global;
+					global = policy;
+					return previous;
+				})//
+				.getResult()//
+				.prependMethodNameToFailureMessage("useGlobally");
+	}
+
+	public int maxElements() {
+		return maxElements;
+	}
+
+	// a long, so that adding two list sizes cannot overflow
+	public boolean allows(final long size) {
+		return size <= maxElements;
+	}
+
+	public String exceededMessage() {
+		return exceededMessage;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof final SizePolicy other && maxElements == other.maxElements;
+	}
+
+	@Override
+	public int hashCode() {
+		return Integer.hashCode(maxElements);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SizePolicy[maxElements=%,d]", maxElements);
+	}
+
+}
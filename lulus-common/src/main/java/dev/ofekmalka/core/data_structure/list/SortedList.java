@@ -0,0 +1,195 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import static dev.ofekmalka.core.assertion.PreconditionedProcess.from;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import dev.ofekmalka.core.assertion.If;
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.List.Errors;
+import dev.ofekmalka.core.error.IndexErrorMessage;
+import dev.ofekmalka.core.function.CheckedOperation;
+
+/**
+ * The elements of a {@link List} stable sorted by a comparator into one array,
+ * for repeated lookups: {@link #binarySearch(Object)}, {@link #lowerBound(Object)}
+ * and {@link #upperBound(Object)} cost O(log n) comparisons instead of the
+ * linear scan of {@link List#indexOf(Object)}. Like {@link List}, every
+ * operation returns a {@link Result} that carries a failed state on to the
+ * caller instead of throwing.
+ */
+public final class SortedList<A> {
+
+	private final Result<Object[]> source;
+	private final Comparator<A> comparator;
+
+	private SortedList(final Result<Object[]> source, final Comparator<A> comparator) {
+		this.source = source;
+		this.comparator = comparator;
+	}
+
+	public static <A> SortedList<A> failureWithMessage(final String message) {
+		return new SortedList<>(Result.failure(message), null);
+	}
+
+	public static <A> SortedList<A> fromList(final List<A> list, final Comparator<A> comparator) {
+		final var errorProcessingMessage = Errors.CastumArgumentMessage.ERROR_PROCESSING_JOINED_LIST
+				.withArgumentName("list").getMessage();
+
+		final var result = If.givenObject(list)//
+				.isNonNull("list")//
+				.andIs(List::isProcessSuccess, errorProcessingMessage)//
+				.andOtherObjectIsNotNull(comparator, "comparator")//
+				.will()//
+				.returnValue(() -> list.elementsAsArray())//
+				.getResult()//
+				.flatMap(elements -> sort(elements, comparator))//
+				.prependMethodNameToFailureMessage("fromList");
+
+		return new SortedList<>(result, comparator);
+	}
+
+	public boolean isProcessSuccess() {
+		return source.isSuccess();
+	}
+
+	public Result<Integer> size() {
+		return from(source)//
+				.processOperation(elements -> elements.length)//
+				.andMakeStackTraceUnderTheName("size")//
+				.getResultProccess();
+	}
+
+	@SuppressWarnings("unchecked")
+	public Result<A> elementAt(final int index) {
+		return from(source)//
+				.checkCondition(elements -> If.isItTrue(index >= 0 && index < elements.length, //
+						IndexErrorMessage//
+								.forIndex(index)//
+								.between(0)//
+								.toExclusive(elements.length).getMessage()))//
+				.processOperation(elements -> (A) elements[index])//
+				.andMakeStackTraceUnderTheName("elementAt")//
+				.getResultProccess();
+	}
+
+	/**
+	 * The index of the first element the comparator ranks equal to the given one.
+	 */
+	public Result<Integer> binarySearch(final A element) {
+		return from(source)//
+				.requireNonNull(element, "element")//
+				.processOperationWithResult(elements -> binarySearch(elements, element))//
+				.andMakeStackTraceUnderTheName("binarySearch")//
+				.getResultProccess();
+	}
+
+	/**
+	 * The index of the first element not less than the given one, or the size
+	 * when every element is less.
+	 */
+	public Result<Integer> lowerBound(final A element) {
+		return from(source)//
+				.requireNonNull(element, "element")//
+				.processOperationWithResult(elements -> bound(elements, element, false))//
+				.andMakeStackTraceUnderTheName("lowerBound")//
+				.getResultProccess();
+	}
+
+	/**
+	 * The index of the first element greater than the given one, or the size when
+	 * no element is greater.
+	 */
+	public Result<Integer> upperBound(final A element) {
+		return from(source)//
+				.requireNonNull(element, "element")//
+				.processOperationWithResult(elements -> bound(elements, element, true))//
+				.andMakeStackTraceUnderTheName("upperBound")//
+				.getResultProccess();
+	}
+
+	/**
+	 * The sorted elements as an indexed list, with O(log n) access by index.
+	 */
+	public List<A> toList() {
+		return from(source)//
+				.processOperation(elements -> elements)//
+				.andMakeStackTraceUnderTheName("toList")//
+				.mapTo(List::indexedFromElements);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof final SortedList<?> other //
+				&& source.isSuccess() && other.source.isSuccess() //
+				&& Arrays.equals(source.successValue(), other.source.successValue());
+	}
+
+	@Override
+	public int hashCode() {
+		return source//
+				.map(elements -> Arrays.hashCode(elements))//
+				.casesForProvidedHashCode()//
+				.onSuccess(t -> t)//
+				.onOtherOptionProvideClassName("SortedList");
+	}
+
+	@Override
+	public String toString() {
+		return If.isItTrue(source.isFailure())//
+				.will()//
+				.returnValue(() -> "It is in a failed state and cannot generate a valid representation for toString."
+						+ "\nPlease check the process status for more details.")//
+				.orGet(() -> represent(source.successValue()));
+	}
+
+	private static String represent(final Object[] elements) {
+		final var builder = new StringBuilder("[");
+		for (final var element : elements)
+			builder.append(element).append(',');
+		return builder.append("NIL]").toString();
+	}
+
+	private static <A> Result<Object[]> sort(final Object[] elements, final Comparator<A> comparator) {
+		try {
+			List.ListImp.sortElements(elements, comparator);
+			return Result.success(elements);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	private Result<Integer> binarySearch(final Object[] elements, final A element) {
+		return bound(elements, element, false)//
+				.flatMap(index -> index < elements.length && compare(elements[index], element) == 0 //
+						? Result.success(index)
+						: Result.failure(Errors.CastumValueMessage.ERROR_INDEX_OF_ELEMENT_NOT_FOUND.withValue(element)
+								.getMessage()));
+	}
+
+	// the first index whose element is not less than the given one, or greater than it when pastEqual is set
+	private Result<Integer> bound(final Object[] elements, final A element, final boolean pastEqual) {
+		try {
+			var low = 0;
+			var high = elements.length;
+			while (low < high) {
+				final var middle = low + high >>> 1;
+				final var order = compare(elements[middle], element);
+				if (order < 0 || pastEqual && order == 0)
+					low = middle + 1;
+				else
+					high = middle;
+			}
+			return Result.success(low);
+		} catch (final Exception e) {
+			return Result.failure(CheckedOperation.ERROR_MESSAGE_RUNTIME_EXCEPTION.getMessage());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(final Object sorted, final A element) {
+		return comparator.compare((A) sorted, element);
+	}
+
+}
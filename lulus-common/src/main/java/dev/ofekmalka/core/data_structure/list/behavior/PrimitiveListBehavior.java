@@ -0,0 +1,129 @@
+package dev.ofekmalka.core.data_structure.list.behavior;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import dev.ofekmalka.core.assertion.result.Result;
+import dev.ofekmalka.core.data_structure.list.DoubleList;
+import dev.ofekmalka.core.data_structure.list.IntList;
+import dev.ofekmalka.core.data_structure.list.List;
+import dev.ofekmalka.core.data_structure.list.LongList;
+
+public interface PrimitiveListBehavior {
+
+	@FunctionalInterface
+	public interface IntAccumulator<B> {
+		B apply(B accumulated, int element);
+	}
+
+	@FunctionalInterface
+	public interface LongAccumulator<B> {
+		B apply(B accumulated, long element);
+	}
+
+	@FunctionalInterface
+	public interface DoubleAccumulator<B> {
+		B apply(B accumulated, double element);
+	}
+
+	public interface OfInt extends PrimitiveListBehavior {
+		Result<Integer> size();
+
+		Result<Boolean> isEmpty();
+
+		Result<Integer> elementAt(int index);
+
+		Result<Integer> indexOf(int element);
+
+		<B> Result<B> foldLeft(B identity, IntAccumulator<B> accumulator);
+
+		Result<Integer> reduce(IntBinaryOperator operator);
+
+		/**
+		 * Widened to {@code long}, so the sum of any list a
+		 * {@link dev.ofekmalka.core.data_structure.list.SizePolicy} allows cannot
+		 * overflow.
+		 */
+		Result<Long> sum();
+
+		IntList map(IntUnaryOperator mapper);
+
+		IntList filter(IntPredicate predicate);
+
+		/**
+		 * Boxes every element once, into a list backed by a persistent vector.
+		 */
+		List<Integer> toList();
+
+		Result<int[]> toArray();
+	}
+
+	public interface OfLong extends PrimitiveListBehavior {
+		Result<Integer> size();
+
+		Result<Boolean> isEmpty();
+
+		Result<Long> elementAt(int index);
+
+		Result<Integer> indexOf(long element);
+
+		<B> Result<B> foldLeft(B identity, LongAccumulator<B> accumulator);
+
+		Result<Long> reduce(LongBinaryOperator operator);
+
+		/**
+		 * Fails instead of wrapping around when the sum overflows a {@code long}.
+		 */
+		Result<Long> sum();
+
+		LongList map(LongUnaryOperator mapper);
+
+		LongList filter(LongPredicate predicate);
+
+		/**
+		 * Boxes every element once, into a list backed by a persistent vector.
+		 */
+		List<Long> toList();
+
+		Result<long[]> toArray();
+	}
+
+	public interface OfDouble extends PrimitiveListBehavior {
+		Result<Integer> size();
+
+		Result<Boolean> isEmpty();
+
+		Result<Double> elementAt(int index);
+
+		/**
+		 * Compares like {@link Double#equals(Object)}, so {@code NaN} is found and
+		 * {@code 0.0} and {@code -0.0} are different elements.
+		 */
+		Result<Integer> indexOf(double element);
+
+		<B> Result<B> foldLeft(B identity, DoubleAccumulator<B> accumulator);
+
+		Result<Double> reduce(DoubleBinaryOperator operator);
+
+		Result<Double> sum();
+
+		DoubleList map(DoubleUnaryOperator mapper);
+
+		DoubleList filter(DoublePredicate predicate);
+
+		/**
+		 * Boxes every element once, into a list backed by a persistent vector.
+		 */
+		List<Double> toList();
+
+		Result<double[]> toArray();
+	}
+
+}
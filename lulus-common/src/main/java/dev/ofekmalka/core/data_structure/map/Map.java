@@ -113,9 +113,7 @@ public final class Map<K, V> implements //
 	@Override
 	public Map<K, V> add(final K mapKey, final V mapValue) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(mapKey).isNonNull("mapKey")
-
-						.andOtherObjectIsNotNull(mapValue, "mapValue"))//
+				.requireNonNull(mapKey, "mapKey", mapValue, "mapValue")//
 				.processOperation(map -> map.add(mapKey, mapValue))//
 				.andMakeStackTraceUnderTheName("add")//
 				.mapTo(Map::makeTypeSafe);//
@@ -143,9 +141,7 @@ public final class Map<K, V> implements //
 	@Override
 	public Result<Boolean> containsKey(final K searchKey) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(searchKey)//
-						.isNonNull("searchKey"))//
+				.requireNonNull(searchKey, "searchKey")//
 
 				.processOperation(map -> map.containsKey(searchKey))//
 				.andMakeStackTraceUnderTheName("containsKey")////
@@ -156,9 +152,7 @@ public final class Map<K, V> implements //
 	@Override
 	public Result<Boolean> containsValue(final V searchValue) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(searchValue)//
-						.isNonNull("searchValue"))//
+				.requireNonNull(searchValue, "searchValue")//
 				.processOperation(map -> map.containsValue(searchValue))//
 				.andMakeStackTraceUnderTheName("containsValue")////
 				.getResultProccess()//
@@ -202,9 +196,7 @@ public final class Map<K, V> implements //
 	@Override
 	public Map<K, V> remove(final K mapKey) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(mapKey)//
-						.isNonNull("mapKey"))//
+				.requireNonNull(mapKey, "mapKey")//
 				.processOperation(map -> map.remove(mapKey))//
 				.andMakeStackTraceUnderTheName("remove")//
 				.mapTo(Map::makeTypeSafe);//
@@ -214,7 +206,7 @@ public final class Map<K, V> implements //
 	@Override
 	public <B> Map<K, B> mapValues(final Function<V, B> valueMapper) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(valueMapper).isNonNull("valueMapper"))
+				.requireNonNull(valueMapper, "valueMapper")
 
 				.processOperationWithResult(map -> map.mapValues(valueMapper))//
 				.andMakeStackTraceUnderTheName("mapValues")//
@@ -256,14 +248,87 @@ public final class Map<K, V> implements //
 	@Override
 	public List<K> keysForValue(final V searchValue) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(searchValue)//
-						.isNonNull("searchValue"))//
+				.requireNonNull(searchValue, "searchValue")//
 				.processOperation(map -> map.keysForValue(searchValue))//
 				.andMakeStackTraceUnderTheName("keysForValue")//
 				.getOrConvertToFailureState(List::failureWithMessage);
 	}
 
+	public static <K, V> Builder<K, V> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * A mutable, single-threaded way to assemble a {@link Map} in linear time, for
+	 * loops that would otherwise copy the whole map on every {@link Map#add}.
+	 * <p>
+	 * {@link #build()} hands the entries over without copying them. Changing the
+	 * builder afterwards copies them once first, so a built map never changes. A
+	 * null key or value, or an updater that fails, makes {@link #build()} return a
+	 * failed map.
+	 */
+	public static final class Builder<K, V> {
+
+		private HashMap<K, V> entries = new HashMap<>();
+		private boolean isShared;
+		private Result<MapImp<K, V>> failure;
+
+		private Builder() {
+		}
+
+		public Builder<K, V> put(final K key, final V value) {
+			if (isValid(key, "key", "put") && isValid(value, "value", "put"))
+				writableEntries().put(key, value);
+			return this;
+		}
+
+		/**
+		 * Stores {@code updater} applied to the value under {@code key}, or to
+		 * {@code initialValue} when the key is absent.
+		 */
+		public Builder<K, V> update(final K key, final V initialValue, final Function<V, V> updater) {
+			if (!isValid(key, "key", "update") || !isValid(initialValue, "initialValue", "update")
+					|| !isValid(updater, "updater", "update"))
+				return this;
+
+			final var current = entries.getOrDefault(key, initialValue);
+			final var updated = updater.safeApplyOn(current);
+			if (updated.isFailure())
+				failWith(updated.mapFailureForOtherObject(), "update");
+			else
+				writableEntries().put(key, updated.successValue());
+			return this;
+		}
+
+		public Map<K, V> build() {
+			if (Objects.nonNull(failure))
+				return Map.makeTypeSafe(failure);
+
+			isShared = true;
+			return Map.makeTypeSafe(new MapImp<>(entries));
+		}
+
+		private HashMap<K, V> writableEntries() {
+			if (isShared) {
+				entries = new HashMap<>(entries);
+				isShared = false;
+			}
+			return entries;
+		}
+
+		private boolean isValid(final Object argument, final String argumentName, final String methodName) {
+			if (Objects.nonNull(failure))
+				return false;
+			if (Objects.isNull(argument))
+				failWith(Result.failure(If.formatErrorMessageForNullValue(argumentName)), methodName);
+			return Objects.isNull(failure);
+		}
+
+		private void failWith(final Result<MapImp<K, V>> failed, final String methodName) {
+			failure = failed.prependMethodNameToFailureMessage(methodName);
+		}
+	}
+
 	private interface MapImpMethods<K, V> {
 
 		MapImp<K, V> add(final K key, final V value);
@@ -117,7 +117,7 @@ public final class Set<T> implements //
 	@Override
 	public Set<T> insert(final T element) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(element).isNonNull("element"))//
+				.requireNonNull(element, "element")//
 				.processOperation(s -> s.insert(element))//
 				.andMakeStackTraceUnderTheName("insert")//
 				.mapTo(Set::makeTypeSafe);//
@@ -127,7 +127,7 @@ public final class Set<T> implements //
 	@Override
 	public Set<T> delete(final T element) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(element).isNonNull("element"))//
+				.requireNonNull(element, "element")//
 				.processOperation(s -> s.delete(element))//
 				.andMakeStackTraceUnderTheName("delete")//
 				.mapTo(Set::makeTypeSafe);//
@@ -153,7 +153,7 @@ public final class Set<T> implements //
 	@Override
 	public Result<Boolean> contains(final T element) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(element).isNonNull("element"))
+				.requireNonNull(element, "element")
 				.processOperation(set -> set.contains(element))//
 				.andMakeStackTraceUnderTheName("contains")//
 				.getResultProccess();
@@ -73,7 +73,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 		public static <S> State<S, Nothing> set(final S state) {
 
 			return startProcess()//
-					.checkCondition(() -> If.givenObject(state).isNonNull("state"))//
+					.requireNonNull(state, "state")//
 					.processOperationBySupplierObject(() -> StateImp.<S>set(state))//
 					.andMakeStackTraceUnderTheName("set")//
 					.mapTo(State::new);//
@@ -84,7 +84,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 
 			return startProcess()//
 
-					.checkCondition(() -> If.givenObject(value).isNonNull("value"))//
+					.requireNonNull(value, "value")//
 					.processOperationBySupplierObject(() -> StateImp.<S, A>unit(value))//
 					.andMakeStackTraceUnderTheName("unit")//
 					.mapTo(State::new);//
@@ -103,8 +103,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 		public static <S> State<S, Nothing> sequence(final Function<S, S> effect) {
 
 			return startProcess()//
-					.checkCondition(() -> //
-					If.givenObject(effect).isNonNull("effect"))//
+					.requireNonNull(effect, "effect")//
 					.processOperationBySupplierObject(() -> StateImp.sequence(effect))//
 					.andMakeStackTraceUnderTheName("sequence")//
 					.mapTo(State::new);//
@@ -131,8 +130,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 		public static <S> State<S, Nothing> modify(final Function<S, S> stateTransformer) {
 
 			return startProcess()//
-					.checkCondition(() -> //
-					If.givenObject(stateTransformer).isNonNull("stateTransformer"))//
+					.requireNonNull(stateTransformer, "stateTransformer")//
 					.processOperationBySupplierObject(() -> StateImp.modify(stateTransformer))//
 					.andMakeStackTraceUnderTheName("modify")//
 					.mapTo(State::new);//
@@ -168,9 +166,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 	@Override
 	public <B> State<S, B> map(final Function<A, B> mapper) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(mapper).isNonNull("mapper")
-
-				)//
+				.requireNonNull(mapper, "mapper")//
 				.processOperation(state -> state.map(mapper))//
 				.andMakeStackTraceUnderTheName("map")//
 				.mapTo(State::new);//
@@ -189,7 +185,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 	@Override
 	public <B> State<S, B> flatMap(final Function<A, State<S, B>> binder) {
 		return from(source)//
-				.checkCondition(() -> If.givenObject(binder).isNonNull("binder"))//
+				.requireNonNull(binder, "binder")//
 				.processOperation(state ->
 
 				state.flatMap(binder.andThen(State::getStateImpSource)))//
@@ -227,9 +223,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 	@Override
 	public Result<A> eval(final S initialState) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(initialState)//
-						.isNonNull("initialState"))//
+				.requireNonNull(initialState, "initialState")//
 				.processOperationWithResult(state -> state.eval(initialState))//
 				.andMakeStackTraceUnderTheName("eval")//
 				.getResultProccess()//
@@ -246,9 +240,7 @@ public class State<S, A> implements StateBehavior.Operations.Basic<S, A> {
 	@Override
 	public Result<Tuple2<S, A>> runWith(final S initialState) {
 		return from(source)//
-				.checkCondition(() -> //
-				If.givenObject(initialState)//
-						.isNonNull("initialState"))//
+				.requireNonNull(initialState, "initialState")//
 				.processOperationWithResult(state -> state.runWith(initialState))//
 				.andMakeStackTraceUnderTheName("eval")//
 				.getResultProccess()//
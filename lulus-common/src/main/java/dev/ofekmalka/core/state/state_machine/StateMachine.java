@@ -146,6 +146,7 @@ public final class StateMachine<CurrentState, Action> {
 
 	public static class ActionSequence<CurrentState, Action> {
 		private final StateMachine<CurrentState, Action> createMachine;
+		// indexed, so that addAction appends in O(log32 n) and leaves this sequence unchanged
 		private final List<Action> actions;
 
 		private ActionSequence(final StateMachine<CurrentState, Action> createMachine, final List<Action> actions) {
@@ -180,7 +181,7 @@ public final class StateMachine<CurrentState, Action> {
 	}
 
 	public ActionSequence<CurrentState, Action> addAction(final Action action) {
-		return new ActionSequence<>(this, List.<Action>emptyList().addElement(action));
+		return new ActionSequence<>(this, List.extendedFactoryOperations().createIndexedCopyOf(List.list(action)));
 	}
 
 			List<Tuple2<Condition<CurrentState, Action>, Transition<CurrentState, Action>>>//
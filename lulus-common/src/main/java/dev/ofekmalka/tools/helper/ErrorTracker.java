@@ -30,25 +30,25 @@ public final class ErrorTracker {
 
 	public static MessageDraft withMessage(final String message) {
 		validateErrorMessage(message);
-		return new MessageDraft(message);
+		return new MessageDraft(FailureTrace.of(message));
 	}
 
 	public static class MessageDraft {
 
-		private final String content;
+		private final FailureTrace content;
 
-		private MessageDraft(final String content) {
+		private MessageDraft(final FailureTrace content) {
 			this.content = content;
 		}
 
 		public MessageDraft withPrependedMethod(final String methodName) {
 			validateCallerName(methodName);
-			return new MessageDraft(String.format(CALL_FORMAT, methodName) + "\n" + content);
+			return new MessageDraft(content.prependCall(methodName));
 		}
 
 		public String prependAndFinalize(final String methodName) {
 			validateCallerName(methodName);
-			return String.format(CALL_FORMAT, methodName) + "\n" + content;
+			return content.prependCall(methodName).render();
 		}
 
 	}
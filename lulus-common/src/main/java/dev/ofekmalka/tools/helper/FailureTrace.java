@@ -0,0 +1,88 @@
+package dev.ofekmalka.tools.helper;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * An immutable, linked trace of failure frames.
+ * <p>
+ * Every layer a failure passes through prepends a frame: either a call frame
+ * (a method name, rendered with {@link ErrorTracker#CALL_FORMAT}) or a message
+ * frame (free text). Prepending is O(1) and shares the rest of the trace; the
+ * text is only assembled, once, when {@link #render()} is called.
+ */
+public final class FailureTrace implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String methodName;
+	private final String message;
+	private final FailureTrace next;
+
+	private String rendered;
+
+	private FailureTrace(final String methodName, final String message, final FailureTrace next) {
+		this.methodName = methodName;
+		this.message = message;
+		this.next = next;
+	}
+
+	public static FailureTrace of(final String message) {
+		return new FailureTrace(null, String.valueOf(message), null);
+	}
+
+	public FailureTrace prependMessage(final String additionalMessage) {
+		return new FailureTrace(null, String.valueOf(additionalMessage), this);
+	}
+
+	public FailureTrace prependCall(final String methodName) {
+		return new FailureTrace(String.valueOf(methodName), null, this);
+	}
+
+	public boolean isCallFrame() {
+		return Objects.nonNull(methodName);
+	}
+
+	static FailureTrace messageFrame(final String message, final FailureTrace next) {
+		return new FailureTrace(null, message, next);
+	}
+
+	String methodName() {
+		return methodName;
+	}
+
+	String message() {
+		return message;
+	}
+
+	FailureTrace next() {
+		return next;
+	}
+
+	/**
+	 * Racy single-check: concurrent callers may each render the trace once, but
+	 * always to an equal string.
+	 */
+	public String render() {
+		var result = rendered;
+		if (Objects.isNull(result)) {
+			final var builder = new StringBuilder();
+			for (var frame = this; Objects.nonNull(frame); frame = frame.next) {
+				if (frame != this)
+					builder.append('\n');
+				if (frame.isCallFrame())
+					builder.append(String.format(ErrorTracker.CALL_FORMAT, frame.methodName));
+				else
+					builder.append(frame.message);
+			}
+			result = builder.toString();
+			rendered = result;
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return render();
+	}
+}
@@ -1,5 +1,7 @@
 package dev.ofekmalka.tools.helper;
 
+import java.util.ArrayList;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 public final class TraceCleaner {
@@ -7,6 +9,9 @@ public final class TraceCleaner {
 	// Precompiled regex pattern — only compiled once when the class is loaded
 	private static final Pattern TRACE_PREFIX_PATTERN = Pattern.compile("(?m)^Called by the method name '.*?' ->\\s*");
 
+	private static final Pattern TRAILING_TRACE_PREFIX_PATTERN = Pattern
+			.compile("(?m)^Called by the method name '.*?' ->\\s*\\z");
+
 	private TraceCleaner() {
 		// Private constructor to prevent instantiation
 	}
@@ -14,4 +19,50 @@ public final class TraceCleaner {
 	public static String removeCalledByMethodPrefixes(final String message) {
 		return TRACE_PREFIX_PATTERN.matcher(message).replaceAll("");
 	}
+
+	/**
+	 * Drops the call frames of the trace and only runs the regex over message
+	 * frames that may still contain a call prefix. The rendered result is the same
+	 * text as {@link #removeCalledByMethodPrefixes(String)} applied to the rendered
+	 * trace: whitespace following a removed prefix is consumed, even when it
+	 * belongs to the next frame.
+	 */
+	public static FailureTrace removeCalledByMethodPrefixes(final FailureTrace trace) {
+		final var frames = new ArrayList<String>();
+		// whether the separator in front of the current frame was consumed
+		var joinWithPrevious = false;
+		for (var frame = trace; Objects.nonNull(frame); frame = frame.next()) {
+			if (frame.isCallFrame()) {
+				if (!joinWithPrevious)
+					frames.add("");
+				joinWithPrevious = true;
+				continue;
+			}
+			final var message = frame.message();
+			final var mayContainPrefix = message.contains("Called by the method name '");
+			final var text = mayContainPrefix ? removeCalledByMethodPrefixes(message) : message;
+			final var endsWithPrefix = mayContainPrefix && TRAILING_TRACE_PREFIX_PATTERN.matcher(message).find();
+			if (joinWithPrevious) {
+				final var stripped = stripLeadingWhitespace(text);
+				frames.set(frames.size() - 1, frames.get(frames.size() - 1) + stripped);
+				joinWithPrevious = stripped.isEmpty() || endsWithPrefix;
+			} else {
+				frames.add(text);
+				joinWithPrevious = endsWithPrefix;
+			}
+		}
+
+		FailureTrace cleaned = null;
+		for (var i = frames.size() - 1; i >= 0; i--)
+			cleaned = FailureTrace.messageFrame(frames.get(i), cleaned);
+		return cleaned;
+	}
+
+	// strips exactly what the regex \s would consume
+	private static String stripLeadingWhitespace(final String text) {
+		var index = 0;
+		while (index < text.length() && " \t\n\u000B\f\r".indexOf(text.charAt(index)) >= 0)
+			index++;
+		return text.substring(index);
+	}
 }
@@ -3,6 +3,7 @@ package dev.ofekmalka.tools.helper;
 import dev.ofekmalka.core.assertion.If;
 import dev.ofekmalka.core.assertion.result.Result;
 import dev.ofekmalka.core.data_structure.list.List;
+import dev.ofekmalka.core.data_structure.list.SizePolicy;
 
 public class ValidatedSize {
 	private final int value;
@@ -24,8 +25,7 @@ public class ValidatedSize {
 				.is(n -> n > 0,
 						List.Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName(argumentName)
 								.getMessage())
-				.andIs(n -> n <= List.Errors.Constants.MAX_LIST_SIZE,
-						List.Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.getMessage())
+				.andIs(n -> SizePolicy.global().allows(n), SizePolicy.global().exceededMessage())
 
 				.will().mapTo(ValidatedSize::new).getResult();
 	}
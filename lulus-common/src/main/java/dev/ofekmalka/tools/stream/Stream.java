@@ -102,11 +102,7 @@ public final class Stream<A> implements //
 
 		return PreconditionedProcess.from(Result.success(Nothing.INSTANCE))//
 
-				.checkCondition(() -> //
-				If.givenObject(supplier)//
-						.isNonNull("supplier")
-
-				).<Stream<A>>//
+				.requireNonNull(supplier, "supplier").<Stream<A>>//
 				processOperationBySupplierResult(() -> //
 
 				supplier.safeGet().map(e ->
@@ -143,11 +139,7 @@ public final class Stream<A> implements //
 		return PreconditionedProcess
 
 				.from(Result.success(Nothing.INSTANCE))//
-				.checkCondition(() -> //
-				If.givenObject(initialState)//
-						.isNonNull("initialState")
-
-						.andOtherObjectIsNotNull(generator, "generator"))
+				.requireNonNull(initialState, "initialState", generator, "generator")
 				.<Stream<A>>//
 				processOperationBySupplierObject(() -> {//
 					final var validJustTheFirstTenInteractions = List.extendedFactoryOperations()//
@@ -191,6 +183,22 @@ public final class Stream<A> implements //
 
 	}
 
+	/**
+	 * Like {@link #unfold}, but the stream ends at the first state for which the
+	 * generator does not answer a success, so it can describe a finite family of
+	 * values without building it. Only the steps that are read are computed.
+	 */
+	public static <S, A> Stream<A> unfoldUntilEmpty(final S initialState,
+			final Function<S, Result<Tuple2<A, S>>> generator) {
+		return PreconditionedProcess.from(Result.success(Nothing.INSTANCE))//
+				.requireNonNull(initialState, "initialState", generator, "generator")//
+				.<Stream<A>>//
+				processOperationBySupplierObject(
+						() -> new Stream<>(UnsafeLazyList.<A>staticMethod().unfoldUntilEmpty(initialState, generator)))//
+				.andMakeStackTraceUnderTheName("unfoldUntilEmpty")//
+				.getOrConvertToFailureState(Stream::makeFailureInstanceWithMessage);//
+	}
+
 	public static Stream<Integer> fibs() {
 		return new Stream<>(UnsafeLazyList.<Integer>staticMethod().fibs());
 	}
@@ -199,9 +207,7 @@ public final class Stream<A> implements //
 	public Stream<A> setFirstElement(final A firstElement) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(firstElement)//
-						.isNonNull("firstElement"))
+				.requireNonNull(firstElement, "firstElement")
 				.<Stream<A>>//
 				processOperationBySupplierResult(() -> //
 				{
@@ -220,9 +226,7 @@ public final class Stream<A> implements //
 	@Override
 	public Stream<A> cons(final A element) {
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(element)//
-						.isNonNull("element"))//
+				.requireNonNull(element, "element")//
 				.processOperationBySupplierObject(() -> //
 
 				new Stream<>(unsafeLazyList.cons(element))).andMakeStackTraceUnderTheName("cons")//
@@ -234,11 +238,7 @@ public final class Stream<A> implements //
 	public Stream<A> dropAtMost(final ValidatedSize n) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(n)//
-						.isNonNull("n")//
-
-				)//
+				.requireNonNull(n, "n")//
 				.processOperationBySupplierObject(() -> //
 
 				new Stream<>(unsafeLazyList.dropAtMost(n.getValue()))).andMakeStackTraceUnderTheName("dropAtMost")//
@@ -250,9 +250,7 @@ public final class Stream<A> implements //
 	public Stream<A> dropWhile(final Predicate<A> predicate) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(predicate)//
-						.isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 
 				.<Stream<A>>processOperationBySupplierResult(() -> //
 				
@@ -280,11 +278,7 @@ public final class Stream<A> implements //
 	@Override
 	public Stream<A> takeAtMost(final ValidatedSize n) {
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(n)//
-						.isNonNull("n")//
-
-				)//
+				.requireNonNull(n, "n")//
 				.processOperationBySupplierObject(() ->
 
 				new Stream<>(unsafeLazyList.takeAtMost(n.getValue()))).andMakeStackTraceUnderTheName("takeAtMost")//
@@ -296,9 +290,7 @@ public final class Stream<A> implements //
 	public Stream<A> takeWhile(final Predicate<A> predicate) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(predicate)//
-						.isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 
 				.<Stream<A>>processOperationBySupplierResult(() -> //
 				
@@ -328,9 +320,7 @@ public final class Stream<A> implements //
 	public <B> Stream<B> flatMap(final Function<A, Stream<B>> elementTransformer) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(elementTransformer)//
-						.isNonNull("elementTransformer"))//
+				.requireNonNull(elementTransformer, "elementTransformer")//
 
 				.<Stream<B>>processOperationBySupplierResult(() -> {
 
@@ -353,9 +343,7 @@ public final class Stream<A> implements //
 
 		return PreconditionedProcess//
 				.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(predicate)//
-						.isNonNull("predicate"))//
+				.requireNonNull(predicate, "predicate")//
 
 				.<Stream<A>>processOperationBySupplierResult(() ->
 
@@ -384,9 +372,7 @@ public final class Stream<A> implements //
 	@Override
 	public <B> Stream<B> map(final Function<A, B> elementTransformer) {
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(elementTransformer)//
-						.isNonNull("elementTransformer"))//
+				.requireNonNull(elementTransformer, "elementTransformer")//
 				.processOperationBySupplierResult(() -> {
 
 					final var unEvalueted = unsafeLazyList.map(elementTransformer);
@@ -404,9 +390,7 @@ public final class Stream<A> implements //
 
 	private <B> Stream<B> mapWithoutStackTraceUnderTheName(final Function<A, B> elementTransformer) {
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(elementTransformer)//
-						.isNonNull("elementTransformer"))//
+				.requireNonNull(elementTransformer, "elementTransformer")//
 				.processOperationBySupplierResult(() -> {
 
 					final var unEvalueted = unsafeLazyList.map(elementTransformer);
@@ -447,11 +431,7 @@ public final class Stream<A> implements //
 	public Stream<List<A>> windowFixed(final ValidatedSize windowSize) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(windowSize)//
-						.isNonNull("windowSize")//
-
-				)//
+				.requireNonNull(windowSize, "windowSize")//
 				.processOperationBySupplierObject(() ->
 
 				new Stream<>(unsafeLazyList.windowFixed(windowSize.getValue())))
@@ -464,11 +444,7 @@ public final class Stream<A> implements //
 	public Stream<List<A>> windowSliding(final ValidatedSize windowSize) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(windowSize)//
-						.isNonNull("windowSize")//
-
-				)//
+				.requireNonNull(windowSize, "windowSize")//
 				.processOperationBySupplierObject(() ->
 
 				new Stream<>(unsafeLazyList.windowSliding(windowSize.getValue())))
@@ -481,11 +457,7 @@ public final class Stream<A> implements //
 	public Stream<List<A>> windowFixedAtMost(final ValidatedSize windowSize) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(windowSize)//
-						.isNonNull("windowSize")//
-
-				)//
+				.requireNonNull(windowSize, "windowSize")//
 				.processOperationBySupplierObject(() ->
 
 				new Stream<>(unsafeLazyList.windowFixedAtMost(windowSize.getValue())))
@@ -519,11 +491,7 @@ public final class Stream<A> implements //
 	public List<A> toBoundedList(final ValidatedSize size) {
 
 		return PreconditionedProcess.from(validator)//
-				.checkCondition(() -> //
-				If.givenObject(size)//
-						.isNonNull("size")//
-
-				)//
+				.requireNonNull(size, "size")//
 				.processOperationBySupplierResult(() -> //
 
 
@@ -619,6 +587,8 @@ public final class Stream<A> implements //
 
 			<S> UnsafeLazyList<A> unfold(final S z, final Function<S, Tuple2<A, S>> f);
 
+			<S> UnsafeLazyList<A> unfoldUntilEmpty(final S z, final Function<S, Result<Tuple2<A, S>>> f);
+
 			UnsafeLazyList<Integer> fibs();
 
 		}
@@ -799,6 +769,15 @@ public final class Stream<A> implements //
 
 			}
 
+			@Override
+			public <S> UnsafeLazyList<A> unfoldUntilEmpty(final S z, final Function<S, Result<Tuple2<A, S>>> f) {
+				final var step = f.apply(z);
+				if (!step.isSuccess())
+					return empty();
+				final var next = step.successValue();
+				return cons(next::state, () -> unfoldUntilEmpty(next.value(), f));
+			}
+
 			@Override
 			public UnsafeLazyList<Integer> fibs() {
 				return UnsafeLazyList.<Integer>staticMethod().unfold(Tuple2.of(1, 1).getResult().successValue(), //
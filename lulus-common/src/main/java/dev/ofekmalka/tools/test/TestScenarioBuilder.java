@@ -132,9 +132,10 @@ public final class TestScenarioBuilder<T> {
 		}
 
 		public <W> OperationResultCollector<W> performActionResult(final Function<A, Function<T, Result<W>>> fun2) {
+			final var givenStates = givenStatesList.cons(this).reverse();
 			final List<AssertionResultHandler<W>> combineNestedLists =
 
-					object.combineNestedLists(e -> givenStatesList.cons(this).reverse().<AssertionResultHandler<W>>map(
+					object.combineNestedLists(e -> givenStates.<AssertionResultHandler<W>>map(
 
 							given1 -> new BDDSoftAssertionResult<>(fun2.apply(given1.a).apply(e)))
 
@@ -173,8 +174,9 @@ public final class TestScenarioBuilder<T> {
 
 		public <W> OperationResultCollector<W> performActionResult(
 				final Function<A, Function<B, Function<T, Result<W>>>> fun2) {
+			final var givenStates = givenStatesList.cons(this).reverse();
 			final List<AssertionResultHandler<W>> combineNestedLists = object
-					.combineNestedLists(e -> givenStatesList.cons(this).reverse().<AssertionResultHandler<W>>map(
+					.combineNestedLists(e -> givenStates.<AssertionResultHandler<W>>map(
 
 							given2 ->
 
@@ -220,8 +222,9 @@ public final class TestScenarioBuilder<T> {
 
 		public <W> OperationResultCollector<W> performActionResult(
 				final Function<A, Function<B, Function<C, Function<T, Result<W>>>>> fun2) {
+			final var givenStates = givenStatesList.cons(this).reverse();
 			final List<AssertionResultHandler<W>> combineNestedLists = object
-					.combineNestedLists(e -> givenStatesList.cons(this).reverse().<AssertionResultHandler<W>>map(
+					.combineNestedLists(e -> givenStates.<AssertionResultHandler<W>>map(
 
 							given3 ->
 
@@ -139,6 +139,8 @@ public interface ResultTestBehavior {
 
 			void removeCalledByMethodPrefixes(final BDDSoftAssertions softly);
 
+			void removeCalledByMethodPrefixesMatchesRenderedTrace(final BDDSoftAssertions softly);
+
 			void extractOnlyUserError(final BDDSoftAssertions softly);
 		}
 
@@ -174,6 +176,10 @@ public interface ResultTestBehavior {
 
 			void failureValue(final BDDSoftAssertions softly);
 
+			void failureValueWithoutStackTraceByDefault(final BDDSoftAssertions softly);
+
+			void failureValueWithStackTraceWhenEnabled(final BDDSoftAssertions softly);
+
 			void getOrElseForSupplierArgument(final BDDSoftAssertions softly);
 		}
 
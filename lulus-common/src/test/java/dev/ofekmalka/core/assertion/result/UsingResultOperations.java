@@ -32,6 +32,7 @@ import dev.ofekmalka.support.general.providers.MethodNameProvider;
 import dev.ofekmalka.support.general.providers.TwoArgumentNamesProvider;
 import dev.ofekmalka.tools.helper.ErrorTracker;
 import dev.ofekmalka.tools.helper.Nothing;
+import dev.ofekmalka.tools.helper.TraceCleaner;
 
 @DisplayNameGeneration(CustomDisplayNameGenerator.class)
 @TestClassOrder(ClassOrderer.OrderAnnotation.class)
@@ -1268,6 +1269,25 @@ public class UsingResultOperations {
 
 			}
 
+			@Override
+			@Test
+			public void removeCalledByMethodPrefixesMatchesRenderedTrace(final BDDSoftAssertions softly) {
+				final var nestedTrace = ErrorTracker.startTrackingFrom("inner").finalizeWith("  user error");
+				final var failures = java.util.stream.Stream.of(//
+						Result.<Integer>failure(nestedTrace)//
+								.prependMethodNameToFailureMessage("middle")//
+								.prependFailureMessage("context line")//
+								.prependMethodNameToFailureMessage("outer"), //
+						Result.<Integer>failure("Called by the method name 'text' ->")//
+								.prependMethodNameToFailureMessage("outer")//
+								.prependFailureMessage("first line"));
+
+				failures.forEach(failure -> softly.then(failure.removeCalledByMethodPrefixes())//
+						.isEqualTo(Result.failure(TraceCleaner
+								.removeCalledByMethodPrefixes(failure.getFailureMessageOrDefault()))));
+
+			}
+
 			@Override
 			@Test
 			public void extractOnlyUserError(final BDDSoftAssertions softly) {
@@ -1432,6 +1452,32 @@ public class UsingResultOperations {
 								.hasMessage(expectedContentOfErrorMessage));
 
 			}
+
+			@Override
+			@Order(14)
+			@Test
+			public void failureValueWithoutStackTraceByDefault(final BDDSoftAssertions softly) {
+				final var failureValue = Result.failure("simple error").failureValue();
+				softly.then(failureValue.getStackTrace()).isEmpty();
+				softly.then(failureValue.toString())
+						.isEqualTo(Result.FailureException.class.getName() + ": simple error");
+
+			}
+
+			@Override
+			@Order(15)
+			@Test
+			public void failureValueWithStackTraceWhenEnabled(final BDDSoftAssertions softly) {
+				Result.FailureStackTraces.enable();
+				try {
+					final var failureValue = Result.failure("simple error").failureValue();
+					softly.then(failureValue.getStackTrace()).isNotEmpty();
+					softly.then(failureValue).hasMessage("simple error");
+				} finally {
+					Result.FailureStackTraces.disable();
+				}
+
+			}
 		}
 
 		@Nested
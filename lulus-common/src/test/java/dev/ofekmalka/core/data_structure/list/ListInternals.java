@@ -0,0 +1,46 @@
+package dev.ofekmalka.core.data_structure.list;
+
+import dev.ofekmalka.core.assertion.result.Result;
+
+/**
+ * Reads the cells behind a {@link List} for the tests that check structural
+ * sharing, which the public API does not expose. It goes through reflection so
+ * that the production classes carry no members for it.
+ */
+final class ListInternals {
+
+	private ListInternals() {
+	}
+
+	/**
+	 * The cell the list starts with, to compare by reference.
+	 */
+	static Object firstCell(final List<?> list) {
+		return ((Result<?>) read(List.class, list, "source")).successValue();
+	}
+
+	/**
+	 * Whether both lists are compact and their first cells read the same block.
+	 */
+	static boolean startInSameBlock(final List<?> first, final List<?> second) {
+		final var firstCell = firstCell(first);
+		final var secondCell = firstCell(second);
+		return isUnrolledCell(firstCell) && isUnrolledCell(secondCell)
+				&& read(firstCell.getClass(), firstCell, "block") == read(secondCell.getClass(), secondCell, "block");
+	}
+
+	private static boolean isUnrolledCell(final Object cell) {
+		return cell.getClass().getSimpleName().equals("UnrolledCell");
+	}
+
+	private static Object read(final Class<?> owner, final Object instance, final String fieldName) {
+		try {
+			final var field = owner.getDeclaredField(fieldName);
+			field.setAccessible(true);
+			return field.get(instance);
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException("cannot read " + owner.getSimpleName() + "." + fieldName, e);
+		}
+	}
+
+}
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.Stack;
 import java.util.Vector;
@@ -55,6 +56,7 @@ import dev.ofekmalka.support.general.providers.MethodNameProvider;
 import dev.ofekmalka.support.general.providers.ThreeArgumentNamesProvider;
 import dev.ofekmalka.support.general.providers.TwoArgumentNamesProvider;
 import dev.ofekmalka.tools.helper.ErrorTracker;
+import dev.ofekmalka.tools.helper.ValidatedSize;
 import dev.ofekmalka.tools.tuple.Tuple2;
 
 @DisplayNameGeneration(CustomDisplayNameGenerator.class)
@@ -102,6 +104,7 @@ public class UsingListOperations {
 					createTestListOperation(softly).<Collection<String>>//
 							givenNullArgument()//
 							.givenSingleArgument(Arrays.asList("1", null))
+							.givenSingleArgument(Arrays.asList(null, "1", null))
 
 							.performActionResult(
 									collection -> List -> List.createFromCollection(collection).getListResult())//
@@ -110,6 +113,8 @@ public class UsingListOperations {
 
 							.thenShouldHaveSameErrorMessage(NullValueMessages.singleNullIndex("[1]").track("list")
 									.withPrependedMethod("map").prependAndFinalize(methodName))
+							.thenShouldHaveSameErrorMessage(NullValueMessages.multipleNullIndexes("[0, 2]").track("list")
+									.withPrependedMethod("map").prependAndFinalize(methodName))
 
 					;
 
@@ -1548,6 +1553,43 @@ public class UsingListOperations {
 							.thenShouldHaveSameErrorMessage(failedProcessErrorMessage);
 				}
 
+				@Override
+				@ParameterizedTest
+				@ArgumentName(methodName = "allIndicesOfSubList", argumentName = "sub")
+				@ArgumentsSource(ArgumentNameProvider.class)
+				public void allIndicesOfSubList(final String methodName, final String argumentName,
+						final BDDSoftAssertions softly) {
+					final var failedProcessErrorMessage = Errors.CastumArgumentMessage//
+							.ERROR_PROCESSING_JOINED_LIST//
+							.withArgumentName(argumentName)//
+							.trackAndFinalize(methodName);//
+
+					final var errorNullValue = NullValueMessages//
+							.argument(argumentName)//
+							.trackAndFinalize(methodName);//
+
+					final var emptySubErrorMessage = Errors.CastumArgumentMessage//
+							.ERROR_ZERO_LENGTH_ARGUMENT_ARRAY//
+							.withArgumentName(argumentName)//
+							.trackAndFinalize(methodName);//
+					//
+					TestMulHelper//
+							.softAssertions(softly)//
+							.<List<Integer>>//
+							initializeCase(//
+									List.list(0, 1, 2, 3, 4, 5, 6, 7))//
+							.<List<Integer>>//
+
+							givenNullArgument()//
+							.givenSingleArgument(List.failureInstance())//
+							.givenSingleArgument(List.emptyList())//
+							.performActionResult(sub -> list -> list.allIndicesOfSubList(sub).getListResult())//
+							//
+							.thenShouldHaveSameErrorMessage(errorNullValue)//
+							.thenShouldHaveSameErrorMessage(failedProcessErrorMessage)//
+							.thenShouldHaveSameErrorMessage(emptySubErrorMessage);
+				}
+
 			}
 
 			@Nested
@@ -2545,6 +2587,180 @@ public class UsingListOperations {
 
 				}
 
+				@Override
+				@Test
+				public void createIndexedFromCollection(final BDDSoftAssertions softly) {
+					createTestListOperation(softly)//
+
+							.<Collection<String>>//
+							givenSingleArgument(java.util.List.of("A", "B", "C", "D"))//
+							.givenSingleArgument(java.util.List.of())//
+
+							.performActionResult(collection -> List -> List.createIndexedFromCollection(collection)
+									.addElement("E").getListResult())//
+							.thenShouldBeEqualTo(List.list("A", "B", "C", "D", "E"))
+
+							.thenShouldBeEqualTo(List.list("E"))//
+
+					;//
+
+				}
+
+				@Override
+				@Test
+				public void createIndexedCopyOf(final BDDSoftAssertions softly) {
+					// enough elements for a trie of more than one level
+					final var numberOfElements = 5_000;
+					final var linked = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+					final var indexed = List.extendedFactoryOperations().createIndexedCopyOf(linked);
+
+					softly.then(indexed).isEqualTo(linked);
+					softly.then(indexed.hashCode()).isEqualTo(linked.hashCode());
+					softly.then(indexed.addElement(-1)).isEqualTo(linked.addElement(-1));
+					softly.then(indexed.cons(-1)).isEqualTo(linked.cons(-1));
+					softly.then(indexed.setElementAtIndex(1_500, -1)).isEqualTo(linked.setElementAtIndex(1_500, -1));
+					softly.then(indexed.removeByIndex(4_999)).isEqualTo(linked.removeByIndex(4_999));
+					softly.then(indexed.getSublistInRange(1_000, 1_100)).isEqualTo(linked.getSublistInRange(1_000, 1_100));
+					softly.then(indexed.takeRightAtMost(40)).isEqualTo(linked.takeRightAtMost(40));
+					softly.then(indexed.splitAt(2_048)).isEqualTo(linked.splitAt(2_048));
+					softly.then(indexed.lastOption()).isEqualTo(Result.success(numberOfElements - 1));
+					softly.then(indexed.reverse()).isEqualTo(linked.reverse());
+
+				}
+
+				@Override
+				@Test
+				public void createCompactCopyOf(final BDDSoftAssertions softly) {
+					// a partial first cell in front of full ones
+					final var numberOfElements = 5_003;
+					final var linked = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+					final var compact = List.extendedFactoryOperations().createCompactCopyOf(linked);
+
+					softly.then(compact).isEqualTo(linked);
+					softly.then(compact.hashCode()).isEqualTo(linked.hashCode());
+					softly.then(compact.foldLeft(0L, sum -> i -> sum + i)).isEqualTo(linked.foldLeft(0L, sum -> i -> sum + i));
+					softly.then(compact.setElementAtIndex(1_500, -1)).isEqualTo(linked.setElementAtIndex(1_500, -1));
+					softly.then(compact.removeByIndex(4_999)).isEqualTo(linked.removeByIndex(4_999));
+					softly.then(compact.splitAt(2_048)).isEqualTo(linked.splitAt(2_048));
+					softly.then(compact.dropAtMost(17)).isEqualTo(linked.dropAtMost(17));
+					softly.then(compact.map(i -> i * 2)).isEqualTo(linked.map(i -> i * 2));
+					softly.then(compact.filter(i -> i % 3 == 0)).isEqualTo(linked.filter(i -> i % 3 == 0));
+					softly.then(compact.lastOption()).isEqualTo(Result.success(numberOfElements - 1));
+
+					// both conses want the same free slot, only the first one may take it
+					final var first = compact.cons(-1);
+					final var second = compact.cons(-2);
+					softly.then(first).isEqualTo(linked.cons(-1));
+					softly.then(second).isEqualTo(linked.cons(-2));
+					softly.then(first.cons(-3).cons(-4)).isEqualTo(linked.cons(-1).cons(-3).cons(-4));
+					softly.then(compact).isEqualTo(linked);
+					// the first cons fills the free slot, the others start blocks of their own
+					softly.then(ListInternals.startInSameBlock(first, compact)).isTrue();
+					softly.then(ListInternals.startInSameBlock(second, compact)).isFalse();
+					softly.then(ListInternals.startInSameBlock(first.cons(-3), compact)).isFalse();
+
+					final var small = List.extendedFactoryOperations().createCompactCopyOf(List.list(1, 2, 3));
+					final var consedTwice = small.cons(0).cons(-1);
+					softly.then(consedTwice).isEqualTo(List.list(-1, 0, 1, 2, 3));
+					softly.then(ListInternals.startInSameBlock(consedTwice, small)).isTrue();
+				}
+
+				@Override
+				@Test
+				public void createInternedCopyOf(final BDDSoftAssertions softly) {
+					final var factory = List.extendedFactoryOperations();
+					final var tags = factory.createInternedCopyOf(List.list("interned-a", "interned-b", "interned-c"));
+					final var sameTags = factory.createInternedCopyOf(List.list("interned-a", "interned-b", "interned-c"));
+					final var longer = factory.createInternedCopyOf(List.list("interned-z", "interned-a", "interned-b",
+							"interned-c"));
+
+					softly.then(sameTags).isEqualTo(tags);
+					softly.then(sameTags.hashCode()).isEqualTo(tags.hashCode());
+					softly.then(longer.restElements()).isEqualTo(tags);
+					// equal lists are one chain of cells, and so is an equal tail
+					softly.then(ListInternals.firstCell(sameTags)).isSameAs(ListInternals.firstCell(tags));
+					softly.then(ListInternals.firstCell(sameTags.restElements()))
+							.isSameAs(ListInternals.firstCell(tags.restElements()));
+					softly.then(ListInternals.firstCell(longer.restElements())).isSameAs(ListInternals.firstCell(tags));
+					softly.then(ListInternals.firstCell(List.list("interned-a", "interned-b", "interned-c")))
+							.isNotSameAs(ListInternals.firstCell(tags));
+					softly.then(tags.addElement("interned-d"))
+							.isEqualTo(List.list("interned-a", "interned-b", "interned-c", "interned-d"));
+					softly.then(factory.createInternedCopyOf(List.<String>emptyList())).isEqualTo(List.emptyList());
+					softly.then(factory.createInternedCopyOf(null).getListResult().failureValue().getMessage())
+							.isEqualTo(NullValueMessages.argument("list").trackAndFinalize("createInternedCopyOf"));
+				}
+
+				@Override
+				@Test
+				public void createWithinSizePolicy(final BDDSoftAssertions softly) {
+					final var tenElements = SizePolicy.ofMaxElements(10).successValue();
+					final var limited = List.extendedFactoryOperations().withLimits(tenElements);
+
+					softly.then(limited.generateRange(0, 10).size()).isEqualTo(Result.success(10));
+					softly.then(limited.generateRange(0, 11).getListResult().failureValue().getMessage())
+							.isEqualTo(ErrorTracker.startTrackingFrom("generateRange")
+									.finalizeWith(tenElements.exceededMessage()));
+					softly.then(limited.createFromCollection(java.util.List.of(1, 2, 3)).size())
+							.isEqualTo(Result.success(3));
+					softly.then(limited.createFilledList(11, () -> 1).isProcessSuccess()).isFalse();
+					softly.then(List.extendedFactoryOperations().withLimits(null).generateRange(0, 1)
+							.isProcessSuccess()).isFalse();
+
+					// 16 bytes per Integer and 32 per list cell
+					final var budget = SizePolicy.ofMemoryBudget(48L * 500_000, 16).successValue();
+					softly.then(budget.maxElements()).isEqualTo(500_000);
+					softly.then(List.extendedFactoryOperations().withLimits(budget).createFilledList(400_000, () -> 1)
+							.size()).isEqualTo(Result.success(400_000));
+
+					softly.then(SizePolicy.ofMaxElements(0).isFailure()).isTrue();
+					softly.then(SizePolicy.ofMemoryBudget(40, 16).isFailure()).isTrue();
+					softly.then(SizePolicy.useGlobally(null).isFailure()).isTrue();
+
+					final var full = List.extendedFactoryOperations().createFilledList(Errors.Constants.MAX_LIST_SIZE,
+							() -> 1);
+					softly.then(full.cons(1).isProcessSuccess()).isFalse();
+					final var previous = SizePolicy.useGlobally(budget).successValue();
+					try {
+						softly.then(full.cons(1).size()).isEqualTo(Result.success(Errors.Constants.MAX_LIST_SIZE + 1));
+						softly.then(full.addList(full.takeAtMost(1_000)).size())
+								.isEqualTo(Result.success(Errors.Constants.MAX_LIST_SIZE + 1_000));
+						softly.then(List.extendedFactoryOperations().generateRange(0, 500_001).isProcessSuccess())
+								.isFalse();
+					} finally {
+						SizePolicy.useGlobally(previous);
+					}
+					softly.then(SizePolicy.global()).isEqualTo(SizePolicy.DEFAULT);
+				}
+
+				@Override
+				@Test
+				public void reverseIndexedCopyAsView(final BDDSoftAssertions softly) {
+					final var numberOfElements = 5_000;
+					final var linked = List.extendedFactoryOperations().generateRange(0, numberOfElements).reverse();
+					final var reversed = List.extendedFactoryOperations()
+							.createIndexedCopyOf(List.extendedFactoryOperations().generateRange(0, numberOfElements))
+							.reverse();
+
+					softly.then(reversed).isEqualTo(linked);
+					softly.then(reversed.hashCode()).isEqualTo(linked.hashCode());
+					softly.then(reversed.reverse()).isEqualTo(linked.reverse());
+					softly.then(reversed.addElement(-1)).isEqualTo(linked.addElement(-1));
+					softly.then(reversed.setElementAtIndex(1_500, -1)).isEqualTo(linked.setElementAtIndex(1_500, -1));
+					softly.then(reversed.removeByIndex(10)).isEqualTo(linked.removeByIndex(10));
+					softly.then(reversed.splitAt(2_048)).isEqualTo(linked.splitAt(2_048));
+					softly.then(reversed.trimLast()).isEqualTo(linked.trimLast());
+					softly.then(reversed.lastOption()).isEqualTo(Result.success(0));
+					softly.then(reversed.takeRightWhile(i -> i < 10)).isEqualTo(linked.takeRightWhile(i -> i < 10));
+					softly.then(reversed.dropRightWhile(i -> i < 10)).isEqualTo(linked.dropRightWhile(i -> i < 10));
+					softly.then(reversed.foldRight("", i -> acc -> acc + i))
+							.isEqualTo(linked.foldRight("", i -> acc -> acc + i));
+					softly.then(reversed.scanRight(0, i -> acc -> acc + i))
+							.isEqualTo(linked.scanRight(0, i -> acc -> acc + i));
+					softly.then(reversed.isPalindrome()).isEqualTo(Result.success(false));
+					softly.then(reversed.addList(reversed.reverse()).isPalindrome()).isEqualTo(Result.success(true));
+				}
+
 			}
 
 			@Nested
@@ -2667,6 +2883,51 @@ public class UsingListOperations {
 							.thenShouldBeEqualTo(List.list(1L, 3L, 2L));//
 				}
 
+				@Override
+				@Test
+				public void unboxedIntList(final BDDSoftAssertions softly) {
+					final var values = IntList.of(3, 1, 4, 1, 5);
+
+					softly.then(values.map(i -> i * 2).filter(i -> i > 2).toList())
+							.isEqualTo(List.list(6, 8, 10));
+					softly.then(values.sum().successValue()).isEqualTo(14L);
+					softly.then(values.reduce(Math::max).successValue()).isEqualTo(5);
+					softly.then(values.foldLeft("", (acc, i) -> acc + i).successValue()).isEqualTo("31415");
+					softly.then(values.indexOf(1).successValue()).isEqualTo(1);
+					softly.then(values.indexOf(9).isFailure()).isTrue();
+					softly.then(values.elementAt(5).isFailure()).isTrue();
+					softly.then(IntList.fromList(values.toList())).isEqualTo(values);
+					softly.then(IntList.of().reduce(Math::max).isFailure()).isTrue();
+					softly.then(values.map(i -> i / 0).isProcessSuccess()).isFalse();
+					final var failed = IntList.fromList(List.failureInstance());
+					softly.then(failed.isProcessSuccess()).isFalse();
+					softly.then(failed.equals(failed)).isTrue();
+					softly.then(failed).isNotEqualTo(IntList.fromList(List.failureInstance()));
+				}
+
+				@Override
+				@Test
+				public void unboxedLongList(final BDDSoftAssertions softly) {
+					final var values = LongList.of(3L, 1L, 4L);
+
+					softly.then(values.map(l -> l * 2).filter(l -> l > 2).toList()).isEqualTo(List.list(6L, 8L));
+					softly.then(values.sum().successValue()).isEqualTo(8L);
+					softly.then(LongList.of(Long.MAX_VALUE, 1L).sum().failureValue().getMessage())
+							.contains(GeneralMessage.ERROR_SUM_OVERFLOW.getMessage());
+					softly.then(LongList.fromList(values.toList())).isEqualTo(values);
+				}
+
+				@Override
+				@Test
+				public void unboxedDoubleList(final BDDSoftAssertions softly) {
+					final var values = DoubleList.of(0.5, Double.NaN, 2.0);
+
+					softly.then(values.filter(d -> !Double.isNaN(d)).sum().successValue()).isEqualTo(2.5);
+					softly.then(values.indexOf(Double.NaN).successValue()).isEqualTo(1);
+					softly.then(values.toList()).isEqualTo(List.list(0.5, Double.NaN, 2.0));
+					softly.then(DoubleList.fromList(values.toList())).isEqualTo(values);
+				}
+
 				@Override
 
 				@Test
@@ -2826,6 +3087,36 @@ public class UsingListOperations {
 				private final List<String> LIST_OF_1_ELEMENTS = List.list("a");
 				private final String FIRST_ELEMENT = "a";
 
+				@Override
+				@Test
+				public void shouldHashEqualListsEqually(final BDDSoftAssertions softly) {
+					final var range = List.extendedFactoryOperations().generateRange(0, Errors.Constants.MAX_LIST_SIZE);
+					final var sameRange = List.extendedFactoryOperations().generateRange(0, Errors.Constants.MAX_LIST_SIZE);
+
+					softly.then(range.hashCode()).isEqualTo(sameRange.hashCode());
+					softly.then(range.restElements().hashCode()).isEqualTo(sameRange.restElements().hashCode());
+					softly.then(List.list("a", "b").hashCode()).isEqualTo(List.list("a", "b").hashCode());
+
+					// a hash code of 0 is memoized like any other
+					final var hashed = new java.util.concurrent.atomic.AtomicInteger();
+					final var hashesListToZero = new Object() {
+						@Override
+						public int hashCode() {
+							hashed.incrementAndGet();
+							return -31;
+						}
+					};
+					final var linked = List.list(hashesListToZero);
+					final var compact = List.extendedFactoryOperations().createCompactCopyOf(linked);
+					final var indexed = List.extendedFactoryOperations()
+							.createIndexedFromCollection(java.util.List.of(hashesListToZero));
+					for (final var list : java.util.List.of(linked, compact, indexed)) {
+						softly.then(list.hashCode()).isZero();
+						softly.then(list.hashCode()).isZero();
+					}
+					softly.then(hashed.get()).isEqualTo(3);
+				}
+
 				@Override
 				@Test
 				public void shouldNotBeEmpty(final BDDSoftAssertions softly) {
@@ -3387,7 +3678,118 @@ public class UsingListOperations {
 						.thenShouldBeEqualTo(List.list(2, 3, 4, 5));
 			}
 
+			@Override
+			@Test
+			public void pipeline(final BDDSoftAssertions softly) {
+				TestMulHelper.softAssertions(softly)//
+						.<List<Integer>>//
+						initializeCases(List.emptyList(), List.list(1, 2, 3, 4, 5, 6, 7, 8, 9, 10))//
+						.withoutAnyArgument()//
+						.performActionResult(list -> list.pipeline()//
+								.map(a -> a * 2)//
+								.filter(a -> a % 3 != 0)//
+								.exclude(a -> a > 16)//
+								.zipWithPosition()//
+								.takeWhile(t -> t.value() < 4)//
+								.toList().getListResult())//
+						.thenShouldBeEqualTo(List.emptyList())//
+						.thenShouldBeEqualTo(List.list(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)//
+								.map(a -> a * 2)//
+								.filter(a -> a % 3 != 0)//
+								.exclude(a -> a > 16)//
+								.zipWithPosition()//
+								.takeWhile(t -> t.value() < 4));
+			}
 
+			@Override
+			@Test
+			public void pipelineFailureMatchesEagerChain(final BDDSoftAssertions softly) {
+				final var list = List.list(1, 2, 3, 4);
+				final Function<Integer, Integer> nullForLastElement = a -> a == 4 ? null : a;
+
+				// the eager map fails on 4 even though takeWhile stops before it
+				softly.then(list.pipeline().map(nullForLastElement).takeWhile(a -> a < 2).toList().getListResult())//
+						.isEqualTo(list.map(nullForLastElement).takeWhile(a -> a < 2).getListResult())//
+						.matches(Result::isFailure);
+
+				softly.then(list.pipeline().filter(null).map(a -> a + 1).toList().getListResult())//
+						.isEqualTo(list.filter(null).map(a -> a + 1).getListResult())//
+						.matches(Result::isFailure);
+
+				softly.then(List.<Integer>emptyList().pipeline().map(null).toList().getListResult())//
+						.isEqualTo(List.<Integer>emptyList().map(null).getListResult())//
+						.matches(Result::isFailure);
+			}
+
+			@Override
+			@Test
+			public void parallel(final BDDSoftAssertions softly) {
+				final var list = List.extendedFactoryOperations().generateRange(0, Errors.Constants.MAX_LIST_SIZE);
+				final var parallel = list.parallel();
+
+				softly.then(parallel.map(a -> a * 2)).isEqualTo(list.map(a -> a * 2));
+				softly.then(parallel.filter(a -> a % 3 == 0)).isEqualTo(list.filter(a -> a % 3 == 0));
+				softly.then(parallel.sequence(a -> Result.success(a + 1)))
+						.isEqualTo(list.sequence(a -> Result.success(a + 1)));
+				softly.then(parallel.anyMatch(a -> a == 250_000)).isEqualTo(Result.success(true));
+				softly.then(parallel.anyMatch(a -> a < 0)).isEqualTo(Result.success(false));
+				softly.then(parallel.allMatch(a -> a >= 0)).isEqualTo(Result.success(true));
+				softly.then(parallel.allMatch(a -> a < 250_000)).isEqualTo(Result.success(false));
+				softly.then(parallel.reduce(a -> b -> Math.max(a, b))).isEqualTo(list.reduce(a -> b -> Math.max(a, b)));
+				softly.then(parallel.groupBy(a -> a % 7)).isEqualTo(list.groupBy(a -> a % 7));
+			}
+
+			@Override
+			@Test
+			public void parallelFailureMatchesSequential(final BDDSoftAssertions softly) {
+				final var list = List.extendedFactoryOperations().generateRange(0, 100_000);
+				final Function<Integer, Integer> nullFor50000 = a -> a == 50_000 ? null : a;
+				final Predicate<Integer> throwsAfter50000 = a -> {
+					if (a > 50_000)
+						throw new IllegalStateException();
+					return a == 10;
+				};
+
+				softly.then(list.parallel().map(nullFor50000).getListResult())//
+						.isEqualTo(list.map(nullFor50000).getListResult())//
+						.matches(Result::isFailure);
+				softly.then(list.parallel().sequence(a -> a == 50_000 ? Result.failure("no " + a) : Result.success(a))
+						.getListResult())//
+						.isEqualTo(list.sequence(a -> a == 50_000 ? Result.failure("no " + a) : Result.success(a))
+								.getListResult())//
+						.matches(Result::isFailure);
+				softly.then(list.parallel().filter(null).getListResult())//
+						.isEqualTo(list.filter(null).getListResult())//
+						.matches(Result::isFailure);
+
+				// sequentially the match at 10 is found before the elements that throw
+				softly.then(list.parallel().anyMatch(throwsAfter50000)).isEqualTo(Result.success(true));
+				softly.then(list.parallel().allMatch(a -> !throwsAfter50000.apply(a)))
+						.isEqualTo(list.allMatch(a -> !throwsAfter50000.apply(a)));
+				softly.then(list.parallel().anyMatch(a -> a > 50_000 && throwsAfter50000.apply(a)))
+						.isEqualTo(list.anyMatch(a -> a > 50_000 && throwsAfter50000.apply(a)))//
+						.matches(Result::isFailure);
+				softly.then(List.<Integer>emptyList().parallel().reduce(a -> b -> a + b))
+						.isEqualTo(List.<Integer>emptyList().reduce(a -> b -> a + b));
+
+				// sequentially the elements are tried from the last one
+				final Function<Integer, Result<Integer>> failsTwice = a -> a == 10 || a == 90_000
+						? Result.failure("no " + a)
+						: Result.success(a);
+				softly.then(list.parallel().sequence(failsTwice).getListResult())//
+						.isEqualTo(list.sequence(failsTwice).getListResult());
+				softly.then(list.parallel().groupBy(nullFor50000).asResult())//
+						.isEqualTo(list.groupBy(nullFor50000).asResult())//
+						.matches(Result::isFailure);
+
+				// the failure comes from the parallel pass, the function does not run again
+				final var calls = new java.util.concurrent.atomic.AtomicInteger();
+				list.parallel().map(a -> {
+					calls.incrementAndGet();
+					return nullFor50000.apply(a);
+				});
+				softly.then(calls.get()).isLessThanOrEqualTo(100_000);
+			}
 
 			@Override
 			@Test
@@ -3598,6 +4000,40 @@ public class UsingListOperations {
 
 			}
 
+
+			@Override
+			@Test
+			public void chainedAppendsOnLargeList(final BDDSoftAssertions softly) {
+				final var numberOfElements = 100_000;
+				var appended = List.<Integer>emptyList();
+				var appendedInPairs = List.<Integer>emptyList();
+				var prepended = List.<Integer>emptyList();
+				for (var i = 0; i < numberOfElements; i++) {
+					appended = appended.addElement(i);
+					prepended = prepended.consList(List.list(numberOfElements - 1 - i));
+				}
+				for (var i = 0; i < numberOfElements; i += 2)
+					appendedInPairs = appendedInPairs.addList(List.list(i, i + 1));
+
+				final var expected = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+				softly.then(appended).isEqualTo(expected);
+				softly.then(appendedInPairs).isEqualTo(expected);
+				softly.then(prepended).isEqualTo(expected);
+				softly.then(appended.hashCode()).isEqualTo(expected.hashCode());
+
+				// appending to a shared prefix must not change the other branch
+				final var prefix = appended.takeAtMost(50_000);
+				softly.then(prefix.addElement(-1).lastOption()).isEqualTo(Result.success(-1));
+				softly.then(prefix.addElement(-2).lastOption()).isEqualTo(Result.success(-2));
+				softly.then(appended.getSublistInRange(50_000, 50_002)).isEqualTo(List.list(50_000, 50_001));
+
+				softly.then(expected.combineNestedLists(i -> List.list(i, i)).size())
+						.isEqualTo(Result.success(2 * numberOfElements));
+				softly.then(expected.combineNestedLists(i -> List.list(i, i, i, i)).getListResult().failureValue()
+						.getMessage())
+						.isEqualTo(Errors.GeneralMessage.ERROR_SIZE_LIMIT_EXCEEDED.trackAndFinalize("combineNestedLists"));
+			}
+
 		}
 
 		@Nested
@@ -3857,6 +4293,42 @@ public class UsingListOperations {
 						);
 			}
 
+			@Override
+			@Test
+			public void shuffleAndSampleWithSeededGenerator(final BDDSoftAssertions softly) {
+				final var factory = java.util.random.RandomGeneratorFactory.<java.util.random.RandomGenerator>of(
+						"L64X128MixRandom");
+				final var list = List.extendedFactoryOperations().generateRange(0, 1_000);
+
+				final var shuffled = list.shuffle(factory.create(42)).convert().toJavaList(ArrayList::new)
+						.successValue();
+				softly.then(list.shuffle(factory.create(42)).convert().toJavaList(ArrayList::new).successValue())
+						.isEqualTo(shuffled);
+				softly.then(shuffled).containsExactlyInAnyOrderElementsOf(
+						list.convert().toJavaList(ArrayList::new).successValue());
+
+				final var sample = list.sample(10, factory.create(7)).convert().toJavaList(ArrayList::new)
+						.successValue();
+				softly.then(sample).hasSize(10).doesNotHaveDuplicates();
+				softly.then(list.sample(10, factory.create(7))).isEqualTo(list.sample(10, factory.create(7)));
+				softly.then(List.list(1, 2, 3).sample(10).size().successValue()).isEqualTo(3);
+
+				softly.then(list.weightedSample(1, i -> i == 500 ? 1e9 : 1e-9, factory.create(3)))
+						.isEqualTo(List.list(500));
+				softly.then(list.weightedSample(1_000, i -> 1.0 + i, factory.create(3)).size().successValue())
+						.isEqualTo(1_000);
+				// a draw of 0.0 is the best possible draw, not one that can never win
+				final var draws = new java.util.ArrayDeque<>(java.util.List.of(0L, 1L << 62));
+				final java.util.random.RandomGenerator zeroFirst = draws::poll;
+				softly.then(List.list(1, 2).weightedSample(1, i -> 1.0, zeroFirst)).isEqualTo(List.list(1));
+
+				softly.then(list.weightedSample(3, i -> 0.0).getErrorMessageIfProcessFail())
+						.isEqualTo(GeneralMessage.ERROR_INVALID_WEIGHT.trackAndFinalize("weightedSample"));
+				softly.then(list.sample(0).getErrorMessageIfProcessFail()).isEqualTo(
+						Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("k")
+								.trackAndFinalize("sample"));
+			}
+
 			@Override
 			@Test
 			public void interleave(final BDDSoftAssertions softly) {
@@ -4021,6 +4493,28 @@ public class UsingListOperations {
 				;
 			}
 
+
+			@Override
+			@Test
+			public void toJavaStream(final BDDSoftAssertions softly) {
+				final var numberOfElements = 10_000;
+				final var expected = java.util.stream.IntStream.range(0, numberOfElements).boxed().toList();
+				final var chain = List.extendedFactoryOperations().generateRange(0, numberOfElements);
+				final var indexed = List.extendedFactoryOperations().createIndexedCopyOf(chain);
+
+				for (final var list : java.util.List.of(chain, indexed)) {
+					final var spliterator = list.convert().toSpliterator().successValue();
+					softly.then(spliterator.getExactSizeIfKnown()).isEqualTo(numberOfElements);
+					softly.then(spliterator.hasCharacteristics(java.util.Spliterator.SIZED
+							| java.util.Spliterator.ORDERED | java.util.Spliterator.IMMUTABLE)).isTrue();
+
+					softly.then(list.convert().toJavaStream().successValue().toList()).isEqualTo(expected);
+					softly.then(list.convert().toJavaStream().successValue().parallel().toList()).isEqualTo(expected);
+				}
+				softly.then(List.<Integer>emptyList().convert().toJavaStream().successValue().count()).isZero();
+				softly.then(List.list(1, null).convert().toJavaStream().isFailure()).isTrue();
+			}
+
 		}
 
 		@Nested
@@ -4072,6 +4566,34 @@ public class UsingListOperations {
 						.thenShouldBeEqualTo(true);
 			}
 
+			@Override
+			@Test
+			public void indexOfSubList(final BDDSoftAssertions softly) {
+				final var list = List.list(1, 2, 1, 2, 1, 3, 1, 2, 1, 2, 1, 3);
+
+				softly.then(list.indexOfSubList(List.list(1, 2, 1, 3))).isEqualTo(Result.success(2));
+				softly.then(list.indexOfSubList(List.list(3))).isEqualTo(Result.success(5));
+				softly.then(list.indexOfSubList(List.emptyList())).isEqualTo(Result.success(0));
+				softly.then(list.indexOfSubList(List.list(2, 2)).failureValue().getMessage())
+						.contains(GeneralMessage.ERROR_SUB_LIST_NOT_FOUND.getMessage());
+				softly.then(list.hasSubList(List.list(1, 3, 1, 2, 1, 2))).isEqualTo(Result.success(true));
+			}
+
+			@Override
+			@Test
+			public void allIndicesOfSubList(final BDDSoftAssertions softly) {
+				final var list = List.list(1, 2, 1, 2, 1, 3, 1, 2, 1, 2, 1, 3);
+
+				softly.then(list.allIndicesOfSubList(List.list(1, 2, 1))).isEqualTo(List.list(0, 2, 6, 8));
+				softly.then(list.allIndicesOfSubList(List.list(1, 3))).isEqualTo(List.list(4, 10));
+				softly.then(list.allIndicesOfSubList(List.list(4))).isEqualTo(List.emptyList());
+
+				final var range = List.extendedFactoryOperations().generateRange(0, Errors.Constants.MAX_LIST_SIZE)
+						.map(i -> i % 1000);
+				final var pattern = List.extendedFactoryOperations().generateRange(0, 1000);
+				softly.then(range.allIndicesOfSubList(pattern).size()).isEqualTo(Result.success(300));
+			}
+
 		}
 
 		@Nested
@@ -4131,6 +4653,31 @@ public class UsingListOperations {
 						.thenShouldBeEqualTo(false);
 			}
 
+
+			@Override
+			@Test
+			public void evaluatesThePredicateOncePerElement(final BDDSoftAssertions softly) {
+				final var list = List.list(2, 3, 4, 5, 6, 7, 8);
+				final var calls = new int[1];
+				final Predicate<Integer> countingIsFive = number -> {
+					calls[0]++;
+					return number == 5;
+				};
+
+				softly.then(list.first(countingIsFive).successValue()).isEqualTo(5);
+				softly.then(list.indexWhere(countingIsFive).successValue()).isEqualTo(3);
+				softly.then(list.anyMatch(countingIsFive).successValue()).isTrue();
+				softly.then(list.allMatch(countingIsFive).successValue()).isFalse();
+				softly.then(list.noneMatch(countingIsFive).successValue()).isFalse();
+				softly.then(list.partition(countingIsFive).isSuccess()).isTrue();
+				softly.then(list.takeWhile(number -> !countingIsFive.apply(number))).isEqualTo(List.list(2, 3, 4));
+				softly.then(list.dropWhile(number -> !countingIsFive.apply(number))).isEqualTo(List.list(5, 6, 7, 8));
+				softly.then(calls[0]).isEqualTo(4 + 4 + 4 + 1 + 4 + 7 + 4 + 4);
+
+				softly.then(list.indexWhere(number -> number == 4 ? null : false).failureValue().getMessage())
+						.isEqualTo(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.trackAndFinalize("indexWhere"));
+			}
+
 		}
 
 		@Nested
@@ -4235,6 +4782,254 @@ public class UsingListOperations {
 						.thenShouldBeEqualTo(List.list(1, 2));//
 
 			}
+
+			@Override
+			@Test
+			public void distinctByEqualityOnLargeList(final BDDSoftAssertions softly) {
+				final var largeList = List.extendedFactoryOperations()
+						.generateRange(0, Errors.Constants.MAX_LIST_SIZE).map(i -> i % 1000);
+
+				softly.then(largeList.distinct())
+						.isEqualTo(List.extendedFactoryOperations().generateRange(0, 1000));
+				softly.then(largeList.hasDuplicatedElements().successValue()).isTrue();
+				softly.then(largeList.isEqualsWithoutConsiderationOrder(largeList.reverse()).successValue()).isTrue();
+
+				// 1 and 1L print the same but are not equal
+				softly.then(List.<Object>list(1, 1L, 1).distinct()).isEqualTo(List.<Object>list(1, 1L));
+			}
+		}
+
+		@Nested
+		class Combinatorics implements ListTestBehavior.Operations.Combinatorics {
+
+			private static final ValidatedSize BOUND = ValidatedSize.of(1_000).successValue();
+
+			@Override
+			@Test
+			public void powerSet(final BDDSoftAssertions softly) {
+				softly.then(List.list(1, 2, 2).powerSet().toBoundedList(BOUND))
+						.isEqualTo(List.list(List.emptyList(), List.list(1), List.list(2), List.list(1, 2)));
+				softly.then(List.emptyList().powerSet().toBoundedList(BOUND)).isEqualTo(List.list(List.emptyList()));
+
+				// 2^40 subsets, only the ones read are built
+				softly.then(List.extendedFactoryOperations().generateRange(0, 40).powerSet()
+						.toBoundedList(ValidatedSize.of(5).successValue()).last())
+						.isEqualTo(List.list(List.list(2)));
+			}
+
+			@Override
+			@Test
+			public void combinations(final BDDSoftAssertions softly) {
+				softly.then(List.list(1, 2, 3, 4).combinations(2).toBoundedList(BOUND)).isEqualTo(List.list(
+						List.list(1, 2), List.list(1, 3), List.list(1, 4), List.list(2, 3), List.list(2, 4),
+						List.list(3, 4)));
+				softly.then(List.list(1, 2).combinations(3).toBoundedList(BOUND)).isEqualTo(List.emptyList());
+				softly.then(List.list(1, 2).combinations(0).getStreamResult().failureValue().getMessage())
+						.isEqualTo(Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("k")
+								.trackAndFinalize("combinations"));
+			}
+
+			@Override
+			@Test
+			public void permutations(final BDDSoftAssertions softly) {
+				softly.then(List.list(1, 2, 3).permutations().toBoundedList(BOUND)).isEqualTo(List.list(
+						List.list(1, 2, 3), List.list(1, 3, 2), List.list(2, 1, 3), List.list(2, 3, 1),
+						List.list(3, 1, 2), List.list(3, 2, 1)));
+				softly.then(List.extendedFactoryOperations().generateRange(0, 20).permutations()
+						.toBoundedList(ValidatedSize.of(3).successValue()).last())
+						.isEqualTo(List.list(List.extendedFactoryOperations().generateRange(0, 17).addElement(18)
+								.addElement(17).addElement(19)));
+			}
+
+			@Override
+			@Test
+			public void cartesianProduct(final BDDSoftAssertions softly) {
+				softly.then(List.list(1, 2).cartesianProduct(List.list("a", "b")).toBoundedList(BOUND)
+						.map(pair -> pair.state() + pair.value()))
+						.isEqualTo(List.list("1a", "1b", "2a", "2b"));
+				softly.then(List.list(1, 2).cartesianProduct(List.<String>emptyList()).toBoundedList(BOUND))
+						.isEqualTo(List.emptyList());
+			}
+		}
+
+		@Nested
+		class Ordering implements ListTestBehavior.Operations.Ordering {
+
+			@Override
+			@Test
+			public void sortBy(final BDDSoftAssertions softly) {
+				softly.then(List.list(3, 1, 2).sortBy(Comparator.naturalOrder())).isEqualTo(List.list(1, 2, 3));
+				// equal lengths keep their order
+				softly.then(List.list("bb", "a", "cc", "d").sortBy(Comparator.comparingInt(String::length)))
+						.isEqualTo(List.list("a", "d", "bb", "cc"));
+
+				final var descending = List.extendedFactoryOperations().generateRange(0, 1_000).reverse();
+				softly.then(descending.sortBy(Comparator.naturalOrder()))
+						.isEqualTo(List.extendedFactoryOperations().generateRange(0, 1_000));
+				softly.then(List.<Integer>emptyList().sortBy(Comparator.naturalOrder())).isEqualTo(List.emptyList());
+				softly.then(List.list(1).sortBy(null).getListResult().failureValue().getMessage())
+						.isEqualTo(NullValueMessages.argument("comparator").trackAndFinalize("sortBy"));
+			}
+
+			@Override
+			@Test
+			public void sortWith(final BDDSoftAssertions softly) {
+				softly.then(List.list("ccc", "a", "bb", "b").sortWith(String::length))
+						.isEqualTo(List.list("a", "b", "bb", "ccc"));
+				softly.then(List.list("a", "b").<Integer>sortWith(s -> null).getListResult().failureValue().getMessage())
+						.isEqualTo(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.trackAndFinalize("sortWith"));
+			}
+
+			@Override
+			@Test
+			public void topK(final BDDSoftAssertions softly) {
+				final var list = List.list(5, 1, 4, 1, 3, 9, 2);
+				softly.then(list.topK(3, Comparator.naturalOrder())).isEqualTo(List.list(1, 1, 2));
+				softly.then(list.topK(2, Comparator.reverseOrder())).isEqualTo(List.list(9, 5));
+				softly.then(list.topK(20, Comparator.naturalOrder())).isEqualTo(list.sortBy(Comparator.naturalOrder()));
+				softly.then(List.list("bb", "a", "cc", "d").topK(3, Comparator.comparingInt(String::length)))
+						.isEqualTo(List.list("a", "d", "bb"));
+				softly.then(list.topK(0, Comparator.naturalOrder()).getListResult().failureValue().getMessage())
+						.isEqualTo(Errors.CastumArgumentMessage.ERROR_NON_POSITIVE_VALUE.withArgumentName("k")
+								.trackAndFinalize("topK"));
+			}
+
+			@Override
+			@Test
+			public void minByAndMaxBy(final BDDSoftAssertions softly) {
+				final var list = List.list("bb", "a", "cc", "d");
+				softly.then(list.minBy(Comparator.comparingInt(String::length)).successValue()).isEqualTo("a");
+				softly.then(list.maxBy(Comparator.comparingInt(String::length)).successValue()).isEqualTo("bb");
+				softly.then(List.<String>emptyList().minBy(Comparator.naturalOrder()).failureValue().getMessage())
+						.isEqualTo(Errors.EmptyListMessage.ERROR_MIN_BY_IN_EMPTY_LIST.trackAndFinalize("minBy"));
+				softly.then(List.<String>emptyList().maxBy(Comparator.naturalOrder()).failureValue().getMessage())
+						.isEqualTo(Errors.EmptyListMessage.ERROR_MAX_BY_IN_EMPTY_LIST.trackAndFinalize("maxBy"));
+			}
+
+			@Override
+			@Test
+			public void sortedListSearch(final BDDSoftAssertions softly) {
+				final var sorted = SortedList.fromList(List.list(7, 3, 5, 3, 9), Comparator.<Integer>naturalOrder());
+				softly.then(sorted.toList()).isEqualTo(List.list(3, 3, 5, 7, 9));
+				softly.then(sorted.binarySearch(3).successValue()).isEqualTo(0);
+				softly.then(sorted.binarySearch(9).successValue()).isEqualTo(4);
+				softly.then(sorted.binarySearch(4).isFailure()).isTrue();
+				softly.then(sorted.lowerBound(4).successValue()).isEqualTo(2);
+				softly.then(sorted.upperBound(3).successValue()).isEqualTo(2);
+				softly.then(sorted.lowerBound(10).successValue()).isEqualTo(5);
+				softly.then(sorted.elementAt(2).successValue()).isEqualTo(5);
+				softly.then(SortedList.fromList(List.list(1), null).isProcessSuccess()).isFalse();
+			}
+		}
+
+		@Nested
+		class Building implements ListTestBehavior.Operations.Building {
+
+			@Override
+			@Test
+			public void appendPrependAndBuild(final BDDSoftAssertions softly) {
+				final var builder = List.<Integer>builder().append(2).append(3).prepend(1)
+						.appendAll(List.list(4, 5));
+				softly.then(builder.size()).isEqualTo(5);
+				softly.then(builder.build()).isEqualTo(List.list(1, 2, 3, 4, 5));
+				softly.then(List.<Integer>builder().build()).isEqualTo(List.emptyList());
+
+				final var large = List.<Integer>builder();
+				for (var i = 0; i < 10_000; i++)
+					large.append(i);
+				softly.then(large.build()).isEqualTo(List.extendedFactoryOperations().generateRange(0, 10_000));
+
+				softly.then(List.<Integer>builder().append(1).append(null).append(2).build().getListResult()
+						.failureValue().getMessage()).isEqualTo(NullValueMessages.argument("element")
+								.trackAndFinalize("append"));
+			}
+
+			@Override
+			@Test
+			public void frozenBuilderFails(final BDDSoftAssertions softly) {
+				final var builder = List.<Integer>builder().append(1);
+				final var published = builder.build();
+				softly.then(builder.isFrozen()).isTrue();
+
+				builder.append(2);
+				softly.then(published).isEqualTo(List.list(1));
+				softly.then(builder.build().getListResult().failureValue().getMessage())
+						.isEqualTo(GeneralMessage.ERROR_BUILDER_FROZEN.trackAndFinalize("append"));
+			}
+
+			@Override
+			@Test
+			public void alternatingAppendAndPrepend(final BDDSoftAssertions softly) {
+				// each side used to double the buffer for the other, running out of memory
+				// after a few dozen elements
+				final var builder = List.<Integer>builder();
+				final var expected = new java.util.ArrayDeque<Integer>();
+				for (var i = 0; i < 5_000; i++)
+					if (i % 2 == 0) {
+						builder.append(i);
+						expected.addLast(i);
+					} else {
+						builder.prepend(i);
+						expected.addFirst(i);
+					}
+
+				softly.then(builder.size()).isEqualTo(5_000);
+				softly.then(builder.build())
+						.isEqualTo(List.extendedFactoryOperations().createFromCollection(expected));
+			}
+		}
+
+		@Nested
+		class Batching implements ListTestBehavior.Operations.Batching {
+
+			@Override
+			@Test
+			public void grouped(final BDDSoftAssertions softly) {
+				final var list = List.list(1, 2, 3, 4, 5);
+				softly.then(list.grouped(2)).isEqualTo(List.list(List.list(1, 2), List.list(3, 4), List.list(5)));
+				softly.then(list.grouped(5)).isEqualTo(List.list(list));
+				softly.then(list.grouped(9)).isEqualTo(List.list(list));
+				softly.then(List.<Integer>emptyList().grouped(3)).isEqualTo(List.emptyList());
+
+				final var range = List.extendedFactoryOperations().generateRange(0, 1_000);
+				softly.then(range.grouped(7).combineNestedLists(group -> group)).isEqualTo(range);
+				softly.then(list.grouped(0).getListResult().failureValue().getMessage())
+						.isEqualTo(ERROR_NON_POSITIVE_VALUE.withArgumentName("n").trackAndFinalize("grouped"));
+			}
+
+			@Override
+			@Test
+			public void sliding(final BDDSoftAssertions softly) {
+				final var list = List.list(1, 2, 3, 4, 5);
+				softly.then(list.sliding(3, 1))
+						.isEqualTo(List.list(List.list(1, 2, 3), List.list(2, 3, 4), List.list(3, 4, 5)));
+				softly.then(list.sliding(3, 2)).isEqualTo(List.list(List.list(1, 2, 3), List.list(3, 4, 5)));
+				softly.then(list.sliding(2, 2)).isEqualTo(List.list(List.list(1, 2), List.list(3, 4), List.list(5)));
+				// the elements between the windows are skipped
+				softly.then(list.sliding(1, 3)).isEqualTo(List.list(List.list(1), List.list(4)));
+				softly.then(List.list(1, 2, 3, 4, 5, 6).sliding(2, 3))
+						.isEqualTo(List.list(List.list(1, 2), List.list(4, 5)));
+				softly.then(list.sliding(2, 4)).isEqualTo(List.list(List.list(1, 2), List.list(5)));
+				softly.then(list.sliding(9, 1)).isEqualTo(List.list(list));
+				softly.then(list.sliding(2, 0).getListResult().failureValue().getMessage())
+						.isEqualTo(ERROR_NON_POSITIVE_VALUE.withArgumentName("step").trackAndFinalize("sliding"));
+			}
+
+			@Override
+			@Test
+			public void splitEvery(final BDDSoftAssertions softly) {
+				final var list = List.list("#a", "b", "#c", "#d", "e");
+				softly.then(list.splitEvery(s -> s.startsWith("#")))
+						.isEqualTo(List.list(List.list("#a", "b"), List.list("#c"), List.list("#d", "e")));
+				softly.then(List.list("a", "#b").splitEvery(s -> s.startsWith("#")))
+						.isEqualTo(List.list(List.list("a"), List.list("#b")));
+				softly.then(list.splitEvery(s -> false)).isEqualTo(List.list(list));
+				softly.then(List.<String>emptyList().splitEvery(s -> true)).isEqualTo(List.emptyList());
+				softly.then(list.splitEvery(s -> null).getListResult().failureValue().getMessage())
+						.isEqualTo(CheckedOperation.ERROR_MESSAGE_NULL_RESULT.trackAndFinalize("splitEvery"));
+				softly.then(list.splitEvery(null).getListResult().failureValue().getMessage())
+						.isEqualTo(NullValueMessages.argument("predicate").trackAndFinalize("splitEvery"));
+			}
 		}
 
 	}
@@ -29,6 +29,12 @@ public interface ListTestBehavior {
 			void createDoubleList(final BDDSoftAssertions softly);
 
 			void createLongList(final BDDSoftAssertions softly);
+
+			void unboxedIntList(final BDDSoftAssertions softly);
+
+			void unboxedLongList(final BDDSoftAssertions softly);
+
+			void unboxedDoubleList(final BDDSoftAssertions softly);
 		}
 
 		public non-sealed interface CollectionFactory extends ExtendedFactoryOperationsHandler {
@@ -37,6 +43,18 @@ public interface ListTestBehavior {
 			void createFromStreamAndRemoveNullsValues(BDDSoftAssertions softly);
 
 			void createFilledList(BDDSoftAssertions softly);
+
+			void createIndexedFromCollection(BDDSoftAssertions softly);
+
+			void createIndexedCopyOf(BDDSoftAssertions softly);
+
+			void createCompactCopyOf(BDDSoftAssertions softly);
+
+			void createInternedCopyOf(BDDSoftAssertions softly);
+
+			void reverseIndexedCopyAsView(BDDSoftAssertions softly);
+
+			void createWithinSizePolicy(BDDSoftAssertions softly);
 		}
 
 		public non-sealed interface RecursiveFactory extends ExtendedFactoryOperationsHandler {
@@ -76,7 +94,11 @@ public interface ListTestBehavior {
 	Operations.Slicing, //
 	Operations.Reordering, //
 	Operations.Zipping, //
-	Operations.MonadicTransformation// , //
+	Operations.MonadicTransformation, //
+	Operations.Combinatorics, //
+	Operations.Ordering, //
+	Operations.Building, //
+	Operations.Batching// , //
 	// Operations.ExtendedFactoryOperationsHandler
 
 	{
@@ -385,6 +407,8 @@ public interface ListTestBehavior {
 					void startsWith(String methodName, String argumentName, BDDSoftAssertions softly);
 
 					void hasSubList(String methodName, String argumentName, BDDSoftAssertions softly);
+
+					void allIndicesOfSubList(String methodName, String argumentName, BDDSoftAssertions softly);
 				}
 
 				public non-sealed interface PredicateMatching extends OnValidNonEmptyList {
@@ -435,6 +459,8 @@ public interface ListTestBehavior {
 
 				void shouldDisplayTheCorrectRepresentation();
 
+				void shouldHashEqualListsEqually(final BDDSoftAssertions softly);
+
 			}
 
 			public non-sealed interface EmptyListBehavior extends Basic {
@@ -515,6 +541,14 @@ public interface ListTestBehavior {
 		public non-sealed interface Transformation extends Operations {
 			void map(BDDSoftAssertions softly);
 
+			void pipeline(BDDSoftAssertions softly);
+
+			void pipelineFailureMatchesEagerChain(BDDSoftAssertions softly);
+
+			void parallel(BDDSoftAssertions softly);
+
+			void parallelFailureMatchesSequential(BDDSoftAssertions softly);
+
 
 			void unzip(BDDSoftAssertions softly);
 		}
@@ -545,6 +579,8 @@ public interface ListTestBehavior {
 			void cons(BDDSoftAssertions softly);
 
 			void consList(BDDSoftAssertions softly);
+
+			void chainedAppendsOnLargeList(BDDSoftAssertions softly);
 		}
 
 		public non-sealed interface Structural extends Operations {
@@ -579,6 +615,8 @@ public interface ListTestBehavior {
 
 			void shuffle(BDDSoftAssertions softly);
 
+			void shuffleAndSampleWithSeededGenerator(BDDSoftAssertions softly);
+
 			void intersperse(BDDSoftAssertions softly);
 
 			void interleave(BDDSoftAssertions softly);
@@ -599,12 +637,18 @@ public interface ListTestBehavior {
 			void toStream(BDDSoftAssertions softly);
 
 			void toJavaList(BDDSoftAssertions softly);
+
+			void toJavaStream(BDDSoftAssertions softly);
 		}
 
 		public non-sealed interface SubList extends Operations {
 			void startsWith(BDDSoftAssertions softly);
 
 			void hasSubList(BDDSoftAssertions softly);
+
+			void indexOfSubList(BDDSoftAssertions softly);
+
+			void allIndicesOfSubList(BDDSoftAssertions softly);
 		}
 
 		public non-sealed interface PredicateMatching extends Operations {
@@ -613,6 +657,8 @@ public interface ListTestBehavior {
 			void allMatch(BDDSoftAssertions softly);
 
 			void noneMatch(BDDSoftAssertions softly);
+
+			void evaluatesThePredicateOncePerElement(BDDSoftAssertions softly);
 		}
 
 		public non-sealed interface Padding extends Operations {
@@ -629,6 +675,46 @@ public interface ListTestBehavior {
 
 		public non-sealed interface Distincting extends Operations {
 			void distinct(BDDSoftAssertions softly);
+
+			void distinctByEqualityOnLargeList(BDDSoftAssertions softly);
+		}
+
+		public non-sealed interface Combinatorics extends Operations {
+			void powerSet(BDDSoftAssertions softly);
+
+			void combinations(BDDSoftAssertions softly);
+
+			void permutations(BDDSoftAssertions softly);
+
+			void cartesianProduct(BDDSoftAssertions softly);
+		}
+
+		public non-sealed interface Ordering extends Operations {
+			void sortBy(BDDSoftAssertions softly);
+
+			void sortWith(BDDSoftAssertions softly);
+
+			void topK(BDDSoftAssertions softly);
+
+			void minByAndMaxBy(BDDSoftAssertions softly);
+
+			void sortedListSearch(BDDSoftAssertions softly);
+		}
+
+		public non-sealed interface Building extends Operations {
+			void appendPrependAndBuild(BDDSoftAssertions softly);
+
+			void frozenBuilderFails(BDDSoftAssertions softly);
+
+			void alternatingAppendAndPrepend(BDDSoftAssertions softly);
+		}
+
+		public non-sealed interface Batching extends Operations {
+			void grouped(BDDSoftAssertions softly);
+
+			void sliding(BDDSoftAssertions softly);
+
+			void splitEvery(BDDSoftAssertions softly);
 		}
 
 	}
@@ -52,6 +52,8 @@ public interface MapTestBehavior {
 
 			void shouldSuccessfullyCreateNonEmptyMap();
 
+			void shouldBuildTheSameMapAsRepeatedAdds();
+
 		}
 
 		public non-sealed interface Transformations extends Operations {
@@ -304,6 +304,29 @@ public class UsingMapOperations {
 
 			}
 
+			@Override
+			@Test
+			public void shouldBuildTheSameMapAsRepeatedAdds() {
+				final var builder = Map.<String, Integer>builder()//
+						.put("a", 1)//
+						.put("b", 2)//
+						.update("a", 0, v -> v + 10)//
+						.update("c", 0, v -> v + 3);
+				final var built = builder.build();
+
+				assertThat(built).isEqualTo(Map.<String, Integer>emptyMap().add("a", 11).add("b", 2).add("c", 3));
+
+				// the built map does not see later changes
+				builder.put("d", 4);
+				assertThat(built.size().successValue()).isEqualTo(3);
+				assertThat(builder.build().size().successValue()).isEqualTo(4);
+
+				assertThat(Map.<String, Integer>builder().put("a", null).put("b", 2).build().asResult())//
+						.matches(Result::isFailure);
+				assertThat(Map.<String, Integer>builder().update("a", 1, v -> null).build().asResult())//
+						.matches(Result::isFailure);
+			}
+
 		}
 
 		@Nested
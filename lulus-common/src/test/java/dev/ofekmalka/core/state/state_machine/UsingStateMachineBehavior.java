@@ -35,8 +35,8 @@ public class UsingStateMachineBehavior {
 		assertThat(outcome.successValue().toString()).isEqualTo("""
 				(0,\
 				[Success(-10),\
-				Failure(java.lang.IllegalStateException: Insufficient balance),\
-				Failure(java.lang.IllegalStateException: Insufficient balance),NIL\
+				Failure(dev.ofekmalka.core.assertion.result.Result$FailureException: Insufficient balance),\
+				Failure(dev.ofekmalka.core.assertion.result.Result$FailureException: Insufficient balance),NIL\
 				]\
 				)""");
 
@@ -9,11 +9,12 @@ public class MavenParentElement {
 
 	private final MavenXmlTags.Parent name;
 
+	// indexed, so that addChild appends in O(log32 n) and leaves this element unchanged
 	private final List<Tuple2<String, String>> parent;
 
 	public MavenParentElement(final MavenXmlTags.Parent name, final List<Tuple2<String, String>> parent) {
 		this.name = name;
-		this.parent = parent;
+		this.parent = List.extendedFactoryOperations().createIndexedCopyOf(parent);
 	}
 
 	public static MavenParentElement name(final MavenXmlTags.Parent name) {
@@ -30,13 +31,11 @@ public class MavenParentElement {
 	}
 
 	public MavenParentElement addChild(final MavenXmlTags.Leaf le, final String value) {
-		return new MavenParentElement(name, parent.addElement(Tuple2
-				.of(le.getTagName(), Result.of(value).getOrElse("<!-- missing value -->")).getResult().successValue()));
+		return addChild(le.getTagName(), value);
 	}
 
 	public MavenParentElement addChild(final MavenXmlTags.Parent le, final String value) {
-		return new MavenParentElement(name, parent.addElement(Tuple2
-				.of(le.getTagName(), Result.of(value).getOrElse("<!-- missing value -->")).getResult().successValue()));
+		return addChild(le.getTagName(), value);
 	}
 
 	public String getName() {